@@ -1,6 +1,7 @@
 package com.examples.demolog.domains.auth.model;
 
 
+import com.examples.demolog.global.utils.UuidV7Generator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -22,7 +23,7 @@ import java.util.UUID;
 public class AppUser {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME) // UUID v7 생성 전략
+    @UuidGenerator(algorithm = UuidV7Generator.class) // UUID v7 생성 전략
     @Column(columnDefinition = "BINARY(16)")         // MySQL에서 UUID 저장타입
     UUID id;
 
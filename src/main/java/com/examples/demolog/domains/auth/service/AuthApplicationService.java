@@ -7,6 +7,7 @@ import com.examples.demolog.domains.auth.exception.AuthErrorCode;
 import com.examples.demolog.domains.auth.exception.AuthException;
 import com.examples.demolog.domains.auth.model.AppUser;
 import com.examples.demolog.domains.auth.repository.AppUserRepository;
+import com.examples.demolog.global.config.AdminProperties;
 import com.examples.demolog.global.security.CustomUserDetails;
 import com.examples.demolog.global.utils.CookieUtil;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +33,7 @@ public class AuthApplicationService {
     // HttpSession 기반 SecurityContext 저장소
     private final SecurityContextRepository securityContextRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AdminProperties adminProperties;
 
     /**
      * 회원가입
@@ -72,7 +74,7 @@ public class AuthApplicationService {
 
         // 1. 새로운 컨텍스트 생성 및 인증 정보 설정
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        CustomUserDetails userDetails = CustomUserDetails.from(user);
+        CustomUserDetails userDetails = CustomUserDetails.from(user, adminProperties.isAdmin(user.getEmail()));
         context.setAuthentication(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
         SecurityContextHolder.setContext(context);
 
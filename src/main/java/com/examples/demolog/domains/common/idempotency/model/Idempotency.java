@@ -1,5 +1,6 @@
 package com.examples.demolog.domains.common.idempotency.model;
 
+import com.examples.demolog.global.utils.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -17,7 +18,7 @@ public class Idempotency {
 
     // 내부 식별자
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
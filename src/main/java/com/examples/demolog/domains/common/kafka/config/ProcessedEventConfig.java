@@ -0,0 +1,9 @@
+package com.examples.demolog.domains.common.kafka.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProcessedEventRetentionProperties.class)
+public class ProcessedEventConfig {
+}
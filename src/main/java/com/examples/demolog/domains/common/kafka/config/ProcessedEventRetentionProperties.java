@@ -0,0 +1,23 @@
+package com.examples.demolog.domains.common.kafka.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 처리 완료 이벤트(PROCESSED_EVENT) 보존 정책 설정
+ *
+ * @param enabled      보존 작업 활성화 여부
+ * @param retention    처리 완료 기록 보존 기간 (처리 시각 기준) - 재전달이 올 수 있는 기간(토픽 보존 기간)보다 길어야 함
+ * @param chunkSize    한 번의 트랜잭션에서 삭제할 최대 행 수
+ * @param chunkPauseMs 청크 사이 대기 시간 (밀리초) - 레플리카가 따라올 시간을 확보
+ */
+@ConfigurationProperties(prefix = "processed-event.retention")
+public record ProcessedEventRetentionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("8d") Duration retention,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("100") long chunkPauseMs
+) {
+}
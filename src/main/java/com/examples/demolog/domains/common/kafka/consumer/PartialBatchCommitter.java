@@ -0,0 +1,99 @@
+package com.examples.demolog.domains.common.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 배치 리스너 부분 실패 커밋기 (파티션 단위 커밋 / seek)
+ * <p>
+ * ack.nack(index) 는 index 이후의 레코드를 파티션과 관계없이 모두 다시 poll 하므로,
+ * 병렬 그룹 중 하나만 실패해도 이미 커밋된 다른 그룹의 레코드가 재전달됩니다.
+ * 이를 피하려고 실패한 레코드가 있는 파티션만 가장 앞선 실패 오프셋까지 커밋하고 그 위치로 seek 하며,
+ * 나머지 파티션은 배치 끝까지 커밋합니다.
+ * - 실패 파티션에서 실패 오프셋 뒤에 있지만 이미 성공한 레코드는 기억해 두었다가 재전달될 때 건너뜁니다.
+ *   (처리 결과 저장이 멱등하지 않아도 중복이 생기지 않음)
+ * - 기억한 위치는 재전달 시 제거되고, 파티션이 회수되면 다른 컨슈머가 커밋 위치부터 다시 처리하므로 비웁니다.
+ * <p>
+ * 리스너 스레드에서만 호출해야 합니다. (Consumer 는 스레드 안전하지 않음)
+ */
+public class PartialBatchCommitter {
+
+    private final Map<TopicPartition, NavigableSet<Long>> processedAhead = new ConcurrentHashMap<>();
+
+    /**
+     * 이전 부분 실패에서 이미 처리한 레코드인지 확인 (확인한 위치는 제거)
+     */
+    public boolean alreadyProcessed(ConsumerRecord<?, ?> consumerRecord) {
+        NavigableSet<Long> offsets = processedAhead.get(topicPartitionOf(consumerRecord));
+        if (offsets == null) {
+            return false;
+        }
+        // 현재 위치보다 앞선 오프셋은 다시 오지 않음
+        offsets.headSet(consumerRecord.offset()).clear();
+        return offsets.remove(consumerRecord.offset());
+    }
+
+    /**
+     * 실패한 레코드가 있는 파티션은 가장 앞선 실패 오프셋까지만 커밋하고 그 위치로 되돌립니다.
+     *
+     * @param failedIndexes 처리에 실패해 다시 poll 해야 하는 레코드 위치
+     * @param sleep         되돌린 뒤 다시 poll 하기 전 대기 시간
+     */
+    public void commitPartially(List<? extends ConsumerRecord<?, ?>> consumerRecords, Set<Integer> failedIndexes,
+                                Consumer<?, ?> consumer, Duration sleep) {
+        Map<TopicPartition, Long> lowestFailedOffsets = new HashMap<>();
+        for (int index : failedIndexes) {
+            ConsumerRecord<?, ?> consumerRecord = consumerRecords.get(index);
+            lowestFailedOffsets.merge(topicPartitionOf(consumerRecord), consumerRecord.offset(), Math::min);
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+        for (int i = 0; i < consumerRecords.size(); i++) {
+            ConsumerRecord<?, ?> consumerRecord = consumerRecords.get(i);
+            TopicPartition topicPartition = topicPartitionOf(consumerRecord);
+            Long lowestFailedOffset = lowestFailedOffsets.get(topicPartition);
+            if (lowestFailedOffset == null) {
+                commits.merge(topicPartition, new OffsetAndMetadata(consumerRecord.offset() + 1),
+                        (a, b) -> a.offset() >= b.offset() ? a : b);
+            } else if (consumerRecord.offset() > lowestFailedOffset && !failedIndexes.contains(i)) {
+                processedAhead.computeIfAbsent(topicPartition, tp -> new ConcurrentSkipListSet<>()).add(consumerRecord.offset());
+            }
+        }
+        lowestFailedOffsets.forEach((topicPartition, offset) -> commits.put(topicPartition, new OffsetAndMetadata(offset)));
+
+        consumer.commitSync(commits);
+        lowestFailedOffsets.forEach(consumer::seek);
+        sleep(sleep);
+    }
+
+    /**
+     * 회수된 파티션의 기억한 위치를 비움 (ConsumerSeekAware.onPartitionsRevoked 에서 호출)
+     */
+    public void forget(Collection<TopicPartition> partitions) {
+        partitions.forEach(processedAhead::remove);
+    }
+
+    private static TopicPartition topicPartitionOf(ConsumerRecord<?, ?> consumerRecord) {
+        return new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
+    }
+
+    private static void sleep(Duration sleep) {
+        try {
+            Thread.sleep(sleep);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
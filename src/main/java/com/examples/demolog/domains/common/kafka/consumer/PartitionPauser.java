@@ -0,0 +1,43 @@
+package com.examples.demolog.domains.common.kafka.consumer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+
+/**
+ * 리스너 컨테이너 파티션 일시 정지기 (재시도 토픽 만기 대기용)
+ * <p>
+ * ack.nack(index, sleep) 은 index 이후의 레코드를 파티션과 관계없이 모두 되돌리고 컨슈머 전체를 sleep 동안 멈춥니다.
+ * 재시도 토픽의 만기 대기는 만기 전 레코드가 있는 파티션만 멈추면 되므로,
+ * 그 파티션만 컨테이너에 일시 정지를 요청하고 만기 시각에 재개를 예약합니다.
+ * - pausePartition / resumePartition 은 요청만 기록하고 실제 pause / resume 은 컨슈머 스레드가 다음 poll 전에 수행하므로
+ *   다른 스레드(스케줄러)에서 호출해도 안전합니다.
+ * - 컨슈머 스레드는 멈추지 않으므로 다른 파티션은 계속 poll 되고 max.poll.interval.ms 에도 걸리지 않습니다.
+ * - 재개 시점에 파티션이 회수되었으면 재개 요청은 무시되고, 새 소유자는 커밋 위치부터 다시 읽습니다.
+ */
+public class PartitionPauser {
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final TaskScheduler taskScheduler;
+
+    public PartitionPauser(KafkaListenerEndpointRegistry registry, TaskScheduler taskScheduler) {
+        this.registry = registry;
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     * 리스너의 파티션을 resumeAt 까지 일시 정지
+     * - 호출 전에 다시 읽을 위치로 seek 해 두어야 합니다.
+     */
+    public void pauseUntil(String listenerId, TopicPartition topicPartition, Instant resumeAt) {
+        MessageListenerContainer container = registry.getListenerContainer(listenerId);
+        if (container == null) {
+            throw new IllegalStateException("리스너 컨테이너가 없습니다: " + listenerId);
+        }
+        container.pausePartition(topicPartition);
+        taskScheduler.schedule(() -> container.resumePartition(topicPartition), resumeAt);
+    }
+}
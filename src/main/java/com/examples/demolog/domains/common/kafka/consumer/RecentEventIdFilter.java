@@ -0,0 +1,34 @@
+package com.examples.demolog.domains.common.kafka.consumer;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 최근 처리한 이벤트 ID 필터 (크기 제한 LRU)
+ * <p>
+ * 리밸런싱이나 nack 재처리로 방금 처리한 레코드가 다시 전달되는 경우를 DB 조회 없이 걸러냅니다.
+ * 프로세스 메모리에만 있으므로 최종 중복 판단은 저장소(이벤트 ID 유니크 인덱스)가 담당합니다.
+ */
+public class RecentEventIdFilter {
+
+    private final Map<UUID, Boolean> recent;
+
+    public RecentEventIdFilter(int capacity) {
+        this.recent = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized boolean contains(UUID eventId) {
+        return eventId != null && recent.get(eventId) != null;
+    }
+
+    public synchronized void addAll(Collection<UUID> eventIds) {
+        eventIds.forEach(eventId -> recent.put(eventId, Boolean.TRUE));
+    }
+}
@@ -0,0 +1,142 @@
+package com.examples.demolog.domains.common.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 컨슈머 재시도 토픽 / 데드 레터 토픽 전달기 (배치 리스너용 논블로킹 재시도)
+ * <p>
+ * 처리에 실패한 레코드를 원래 파티션에서 다시 처리하지 않고 단계별 재시도 토픽으로 넘긴 뒤 원래 오프셋은 커밋합니다.
+ * 실패한 레코드 뒤의 정상 레코드가 재시도 대기에 묶이지 않으며, 마지막 단계까지 실패하면 데드 레터 토픽에 남깁니다.
+ * - 재시도 단계마다 지연 시간이 고정이므로 한 파티션 안에서 만기 시각은 오름차순입니다.
+ *   따라서 재시도 리스너는 만기 전 레코드를 만나면 그 파티션만 그 위치로 되돌려 만기까지 멈추면 됩니다. (PartitionPauser)
+ * - 원본 헤더(이벤트 ID 등)는 그대로 옮기므로 재시도 처리에서도 같은 기준으로 중복을 걸러냅니다.
+ * <p>
+ * (spring-kafka 의 @RetryableTopic 은 배치 리스너를 지원하지 않아 전달만 직접 구현)
+ */
+public class RetryTopicForwarder {
+
+    public static final String ATTEMPT = "retry-attempt";
+    public static final String DUE_AT = "retry-due-at";
+    public static final String ORIGINAL_TOPIC = "retry-original-topic";
+    public static final String EXCEPTION = "retry-exception";
+
+    private static final int MAX_EXCEPTION_LENGTH = 500;
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final List<String> retryTopics;
+    private final List<Duration> delays;
+    private final String deadLetterTopic;
+    private final Duration sendTimeout;
+
+    public RetryTopicForwarder(KafkaTemplate<String, String> kafkaTemplate, List<String> retryTopics, List<Duration> delays,
+                               String deadLetterTopic, Duration sendTimeout) {
+        if (retryTopics.size() != delays.size()) {
+            throw new IllegalArgumentException("재시도 토픽 수와 지연 시간 수가 다릅니다: topics=" + retryTopics.size() + ", delays=" + delays.size());
+        }
+        this.kafkaTemplate = kafkaTemplate;
+        this.retryTopics = List.copyOf(retryTopics);
+        this.delays = List.copyOf(delays);
+        this.deadLetterTopic = deadLetterTopic;
+        this.sendTimeout = sendTimeout;
+    }
+
+    /**
+     * 실패한 레코드를 다음 재시도 단계로 전달 (마지막 단계였다면 데드 레터 토픽)
+     * - 전송 결과까지 기다리므로 정상 반환 후에만 원래 오프셋을 커밋해야 합니다.
+     */
+    public void forward(List<ConsumerRecord<String, String>> consumerRecords, Throwable cause) {
+        Instant now = Instant.now();
+        sendAll(consumerRecords.stream()
+                .map(consumerRecord -> {
+                    int attempt = attemptOf(consumerRecord);
+                    return attempt < retryTopics.size()
+                            ? toRecord(consumerRecord, retryTopics.get(attempt), attempt + 1, now.plus(delays.get(attempt)), cause)
+                            : toRecord(consumerRecord, deadLetterTopic, attempt + 1, null, cause);
+                })
+                .toList());
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 레코드(역직렬화 실패 등)를 곧바로 데드 레터 토픽으로 전달
+     */
+    public void forwardToDeadLetter(List<ConsumerRecord<String, String>> consumerRecords, Throwable cause) {
+        sendAll(consumerRecords.stream()
+                .map(consumerRecord -> toRecord(consumerRecord, deadLetterTopic, attemptOf(consumerRecord) + 1, null, cause))
+                .toList());
+    }
+
+    /**
+     * 지금까지 실패한 횟수 (원본 토픽 레코드는 0)
+     */
+    public static int attemptOf(ConsumerRecord<?, ?> consumerRecord) {
+        Header header = consumerRecord.headers().lastHeader(ATTEMPT);
+        return header == null ? 0 : Integer.parseInt(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 재시도 만기 시각 (헤더가 없으면 즉시 처리 대상)
+     */
+    public static Instant dueAtOf(ConsumerRecord<?, ?> consumerRecord) {
+        Header header = consumerRecord.headers().lastHeader(DUE_AT);
+        return header == null ? Instant.EPOCH : Instant.ofEpochMilli(Long.parseLong(new String(header.value(), StandardCharsets.UTF_8)));
+    }
+
+    private ProducerRecord<String, String> toRecord(ConsumerRecord<String, String> consumerRecord, String topic, int attempt,
+                                                    Instant dueAt, Throwable cause) {
+        Headers headers = new RecordHeaders();
+        for (Header header : consumerRecord.headers()) {
+            if (!header.key().startsWith("retry-")) {
+                headers.add(header);
+            }
+        }
+        headers.add(ATTEMPT, encode(String.valueOf(attempt)));
+        headers.add(ORIGINAL_TOPIC, encode(originalTopicOf(consumerRecord)));
+        headers.add(EXCEPTION, encode(describe(cause)));
+        if (dueAt != null) {
+            headers.add(DUE_AT, encode(String.valueOf(dueAt.toEpochMilli())));
+        }
+        return new ProducerRecord<>(topic, null, consumerRecord.key(), consumerRecord.value(), headers);
+    }
+
+    private void sendAll(List<ProducerRecord<String, String>> producerRecords) {
+        CompletableFuture<?>[] futures = producerRecords.stream()
+                .map(kafkaTemplate::send)
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 토픽 전달 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("재시도 토픽 전달 실패", e);
+        }
+    }
+
+    private static String originalTopicOf(ConsumerRecord<?, ?> consumerRecord) {
+        Header header = consumerRecord.headers().lastHeader(ORIGINAL_TOPIC);
+        return header == null ? consumerRecord.topic() : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static String describe(Throwable cause) {
+        String description = cause.getClass().getName() + ": " + cause.getMessage();
+        return description.length() > MAX_EXCEPTION_LENGTH ? description.substring(0, MAX_EXCEPTION_LENGTH) : description;
+    }
+
+    private static byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
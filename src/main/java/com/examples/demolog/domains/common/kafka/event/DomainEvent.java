@@ -13,5 +13,7 @@ public interface DomainEvent {
 
     UUID aggregateId();
 
+    UUID actorId();
+
     LocalDateTime createdAt();
 }
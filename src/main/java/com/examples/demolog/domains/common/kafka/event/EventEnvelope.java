@@ -0,0 +1,9 @@
+package com.examples.demolog.domains.common.kafka.event;
+
+import java.util.UUID;
+
+/**
+ * 수신한 도메인 이벤트와 이벤트 ID (헤더가 없는 이전 메시지는 eventId 가 null)
+ */
+public record EventEnvelope<T extends DomainEvent>(UUID eventId, T event) {
+}
@@ -0,0 +1,39 @@
+package com.examples.demolog.domains.common.kafka.event;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 도메인 이벤트 Kafka 헤더
+ */
+public final class EventHeaders {
+
+    // 이벤트 ID (= 아웃박스 행 ID) - 재전달되어도 바뀌지 않으므로 컨슈머 중복 제거 키로 사용
+    public static final String EVENT_ID = "event-id";
+
+    private EventHeaders() {
+    }
+
+    public static byte[] encode(UUID eventId) {
+        return eventId.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 레코드의 이벤트 ID (헤더가 없거나 형식이 잘못된 이전 메시지는 null)
+     */
+    public static UUID eventIdOf(ConsumerRecord<?, ?> consumerRecord) {
+        Header header = consumerRecord.headers().lastHeader(EVENT_ID);
+        if (header == null) {
+            return null;
+        }
+
+        try {
+            return UUID.fromString(new String(header.value(), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.examples.demolog.domains.common.kafka.model;
+
+import com.examples.demolog.global.utils.UuidV7Generator;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 컨슈머가 처리를 마친 이벤트 ID
+ * - 처리 결과와 같은 트랜잭션에서 저장되므로, 이 행이 있으면 해당 컨슈머에서 이벤트 처리가 커밋된 것입니다.
+ * - 여러 이벤트를 한 행으로 합치는 처리(알림 집계 등)도 이벤트 단위로 중복을 판단할 수 있습니다.
+ */
+@Entity
+@Table(name = "PROCESSED_EVENT", indexes = {
+    @Index(name = "uk_processed_event_consumer_event_id", columnList = "consumer, event_id", unique = true),
+    @Index(name = "idx_processed_event_processed_at", columnList = "processed_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(access = AccessLevel.PRIVATE)
+public class ProcessedEvent {
+
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    // 컨슈머 이름 (예: "notification")
+    @Column(nullable = false, length = 50)
+    private String consumer;
+
+    // 이벤트 ID (= 아웃박스 ID)
+    @Column(name = "event_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID eventId;
+
+    // 처리 시각 (보존 기간이 지나면 ProcessedEventRetentionScheduler 가 삭제)
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    public static ProcessedEvent of(String consumer, UUID eventId) {
+        return ProcessedEvent.builder()
+                .consumer(consumer)
+                .eventId(eventId)
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+}
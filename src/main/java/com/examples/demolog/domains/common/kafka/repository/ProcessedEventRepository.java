@@ -0,0 +1,34 @@
+package com.examples.demolog.domains.common.kafka.repository;
+
+import com.examples.demolog.domains.common.kafka.model.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, UUID> {
+
+    /**
+     * 컨슈머가 이미 처리한 이벤트 ID 조회 (uk_processed_event_consumer_event_id 인덱스)
+     */
+    @Query("SELECT p.eventId FROM ProcessedEvent p WHERE p.consumer = :consumer AND p.eventId IN :eventIds")
+    Set<UUID> findEventIdsByConsumerAndEventIdIn(@Param("consumer") String consumer, @Param("eventIds") Collection<UUID> eventIds);
+
+    /**
+     * 처리 시각이 cutoff 이전인 행을 오래된 순으로 최대 limit 건 삭제
+     * - idx_processed_event_processed_at 을 처리 시각 순서 그대로 읽고 limit 건에서 멈추므로 잠그는 행이 limit 건으로 제한됨
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM processed_event
+            WHERE processed_at < :cutoff
+            ORDER BY processed_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
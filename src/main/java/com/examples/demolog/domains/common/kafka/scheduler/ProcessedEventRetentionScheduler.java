@@ -0,0 +1,64 @@
+package com.examples.demolog.domains.common.kafka.scheduler;
+
+import com.examples.demolog.domains.common.kafka.config.ProcessedEventRetentionProperties;
+import com.examples.demolog.domains.common.kafka.service.ProcessedEventApplicationService;
+import com.examples.demolog.domains.common.lock.ScheduledJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료 이벤트 보존 작업
+ * - 보존 기간이 지난 PROCESSED_EVENT 행을 처리 시각 순으로 작은 청크 단위로 삭제합니다.
+ *   그보다 오래된 이벤트는 토픽에서도 지워져 다시 전달되지 않으므로 중복 판단에 필요 없습니다.
+ * - 청크 사이에 잠시 쉬어 레플리케이션 지연이 쌓이지 않도록 하고, 단일 실행 잠금을 얻은 한 인스턴스에서만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "processed-event.retention", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProcessedEventRetentionScheduler {
+
+    private static final String JOB = "processed-event-retention";
+    // 전체 삭제 최대 실행 시간보다 길게
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final ProcessedEventApplicationService processedEventApplicationService;
+    private final ProcessedEventRetentionProperties properties;
+    private final ScheduledJobLock scheduledJobLock;
+
+    @Scheduled(cron = "${processed-event.retention.cron:0 0 5 * * *}")
+    public void purgeProcessedEvents() {
+        try {
+            if (!scheduledJobLock.runExclusively(JOB, LOCK_TTL, this::purge)) {
+                log.debug("다른 인스턴스가 처리 완료 이벤트 보존 작업 중, 건너뜀");
+            }
+        } catch (Exception e) {
+            log.error("처리 완료 이벤트 보존 작업 실패", e);
+        }
+    }
+
+    private void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        long total = 0;
+        try {
+            int purged;
+            do {
+                purged = processedEventApplicationService.purgeChunk(cutoff, properties.chunkSize());
+                total += purged;
+                if (purged == properties.chunkSize()) {
+                    Thread.sleep(properties.chunkPauseMs());
+                }
+            } while (purged == properties.chunkSize());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("처리 완료 이벤트 보존 작업 완료: cutoff={}, purged={}", cutoff, total);
+    }
+}
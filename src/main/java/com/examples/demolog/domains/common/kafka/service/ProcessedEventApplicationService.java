@@ -0,0 +1,64 @@
+package com.examples.demolog.domains.common.kafka.service;
+
+import com.examples.demolog.domains.common.kafka.event.DomainEvent;
+import com.examples.demolog.domains.common.kafka.event.EventEnvelope;
+import com.examples.demolog.domains.common.kafka.model.ProcessedEvent;
+import com.examples.demolog.domains.common.kafka.repository.ProcessedEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ProcessedEventApplicationService {
+
+    private final ProcessedEventRepository processedEventRepository;
+
+    /**
+     * 처리한 적 없는 이벤트만 남기고, 남은 이벤트를 처리 완료로 기록
+     * - 호출한 쪽의 트랜잭션에 참여하므로 처리 결과와 함께 커밋되거나 함께 롤백됩니다.
+     * - 동시에 같은 이벤트를 기록하는 경합은 (consumer, event_id) 유니크 인덱스가 막습니다.
+     * - 이벤트 ID 가 없는 이전 메시지는 중복을 판단할 수 없으므로 그대로 통과시킵니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T extends DomainEvent> List<EventEnvelope<T>> filterAndMarkProcessed(String consumer, List<EventEnvelope<T>> envelopes) {
+        Set<UUID> eventIds = envelopes.stream()
+                .map(EventEnvelope::eventId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (eventIds.isEmpty()) {
+            return envelopes;
+        }
+
+        Set<UUID> processed = processedEventRepository.findEventIdsByConsumerAndEventIdIn(consumer, eventIds);
+        List<EventEnvelope<T>> unprocessed = envelopes.stream()
+                .filter(envelope -> envelope.eventId() == null || !processed.contains(envelope.eventId()))
+                .toList();
+
+        processedEventRepository.saveAll(unprocessed.stream()
+                .map(EventEnvelope::eventId)
+                .filter(Objects::nonNull)
+                .map(eventId -> ProcessedEvent.of(consumer, eventId))
+                .toList());
+        return unprocessed;
+    }
+
+    /**
+     * 보존 기간이 지난 처리 완료 기록 한 청크 삭제 (배치 작업용)
+     * - 청크마다 별도의 짧은 트랜잭션으로 커밋하여 긴 잠금과 대형 binlog 이벤트를 만들지 않습니다.
+     *
+     * @return 삭제한 행 수
+     */
+    @Transactional
+    public int purgeChunk(LocalDateTime cutoff, int chunkSize) {
+        return processedEventRepository.deleteProcessedBefore(cutoff, chunkSize);
+    }
+}
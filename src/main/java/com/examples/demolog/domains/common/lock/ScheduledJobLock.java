@@ -0,0 +1,56 @@
+package com.examples.demolog.domains.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 스케줄 작업 단일 실행 잠금 (Redis SET NX PX)
+ * <p>
+ * 모든 인스턴스가 같은 스케줄로 실행하는 작업을 잠금을 얻은 한 곳에서만 실행합니다.
+ * - 잠금을 얻지 못하면 작업을 건너뜁니다. (다른 인스턴스가 실행 중이거나 방금 마침)
+ * - ttl 이 지나면 자동 해제되므로 실행 중 인스턴스가 죽어도 다음 실행에서 다시 시도합니다.
+ *   ttl 은 작업의 최대 실행 시간보다 길게 잡아야 합니다.
+ * - 해제는 내가 얻은 잠금일 때만 합니다. (ttl 만료 후 다른 인스턴스가 얻은 잠금을 지우지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobLock {
+
+    private static final String KEY_PREFIX = "job:lock:";
+
+    // 내가 얻은 잠금만 해제 (값이 토큰과 같을 때만 DEL)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 잠금을 얻었을 때만 작업 실행
+     *
+     * @return 작업을 실행했으면 true, 잠금을 얻지 못해 건너뛰었으면 false
+     */
+    public boolean runExclusively(String job, Duration ttl, Runnable task) {
+        String key = KEY_PREFIX + job;
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl))) {
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.examples.demolog.domains.common.outbox.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 샤드 임대(lease) 설정
+ *
+ * @param enabled             샤드 임대 사용 여부 (false 면 모든 인스턴스가 모든 샤드를 처리)
+ * @param leaseTtl            샤드 임대 및 노드 하트비트 만료 시간 - 갱신이 끊긴 노드의 샤드는 이 시간 뒤 회수됨
+ * @param heartbeatIntervalMs 하트비트(임대 갱신 + 재분배) 주기 (밀리초, leaseTtl 의 1/3 이하 권장)
+ * @param keyPrefix           Redis 키 접두사
+ */
+@ConfigurationProperties(prefix = "outbox.lease")
+public record OutboxLeaseProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("15s") Duration leaseTtl,
+        @DefaultValue("5000") long heartbeatIntervalMs,
+        @DefaultValue("outbox:lease:") String keyPrefix
+) {
+}
@@ -0,0 +1,31 @@
+package com.examples.demolog.domains.common.outbox.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties({
+        OutboxRelayProperties.class,
+        OutboxRetryProperties.class,
+        OutboxRetentionProperties.class,
+        OutboxLeaseProperties.class
+})
+public class OutboxRelayConfig {
+
+    /**
+     * 아웃박스 릴레이 레인 전용 스레드 풀
+     * - 레인 수만큼만 스레드를 두어 레인마다 하나의 스레드가 순차 처리하고, 배치 선점이 DB 커넥션 풀을 잠식하지 않도록 합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor outboxRelayExecutor(OutboxRelayProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.laneCount());
+        executor.setMaxPoolSize(properties.laneCount());
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.examples.demolog.domains.common.outbox.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 아웃박스 릴레이 설정
+ *
+ * @param batchSize      한 번의 트랜잭션에서 선점(claim)할 최대 행 수
+ * @param laneCount      병렬 릴레이 레인 수 (레인 내부는 순차 처리, 최대 Outbox.SHARD_COUNT)
+ * @param pollIntervalMs 폴링 주기 (밀리초)
+ * @param sendTimeoutMs  배치 내 전송 결과를 기다리는 최대 시간 (밀리초, 트랜잭션 전송은 프로듀서 max.block.ms / transaction.timeout.ms 에도 반영)
+ * @param transactional  배치를 하나의 Kafka 트랜잭션으로 전송할지 여부 (멱등 + 트랜잭션 프로듀서)
+ * @param transactionIdPrefix 트랜잭션 프로듀서 transactional.id 접두사 (인스턴스마다 달라야 함)
+ */
+@ConfigurationProperties(prefix = "outbox.relay")
+public record OutboxRelayProperties(
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("4") int laneCount,
+        @DefaultValue("5000") long pollIntervalMs,
+        @DefaultValue("10000") long sendTimeoutMs,
+        @DefaultValue("false") boolean transactional,
+        @DefaultValue("outbox-relay-") String transactionIdPrefix
+) {
+}
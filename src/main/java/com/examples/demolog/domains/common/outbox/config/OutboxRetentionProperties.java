@@ -0,0 +1,25 @@
+package com.examples.demolog.domains.common.outbox.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 보존 정책 설정
+ *
+ * @param enabled      보존 작업 활성화 여부
+ * @param retention    처리 완료(발행, 상쇄, 데드 레터 이관) 행 보존 기간 (생성 시각 기준)
+ * @param chunkSize    한 번의 트랜잭션에서 삭제(이관)할 최대 행 수
+ * @param chunkPauseMs 청크 사이 대기 시간 (밀리초) - 레플리카가 따라올 시간을 확보
+ * @param archive      삭제 전 OUTBOX_ARCHIVE 테이블로 이관할지 여부
+ */
+@ConfigurationProperties(prefix = "outbox.retention")
+public record OutboxRetentionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("100") long chunkPauseMs,
+        @DefaultValue("false") boolean archive
+) {
+}
@@ -0,0 +1,43 @@
+package com.examples.demolog.domains.common.outbox.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 아웃박스 발행 실패 재시도 설정
+ *
+ * @param maxAttempts    최대 발행 시도 횟수 (초과 시 데드 레터 토픽으로 이관)
+ * @param initialBackoff 첫 재시도 대기 시간
+ * @param maxBackoff     재시도 대기 시간 상한
+ * @param multiplier     재시도마다 대기 시간 증가 배수
+ * @param dltSuffix      데드 레터 토픽 접미사 (원본 토픽 + 접미사)
+ * @param pollIntervalMs 재시도 대상 조회 주기 (밀리초)
+ */
+@ConfigurationProperties(prefix = "outbox.retry")
+public record OutboxRetryProperties(
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("1s") Duration initialBackoff,
+        @DefaultValue("10m") Duration maxBackoff,
+        @DefaultValue("2.0") double multiplier,
+        @DefaultValue(".DLT") String dltSuffix,
+        @DefaultValue("1000") long pollIntervalMs
+) {
+
+    /**
+     * attempt 번째 실패 이후의 재시도 대기 시간 (지수 백오프 + equal jitter)
+     * - 같은 순간 실패한 이벤트들이 같은 순간에 재시도되어 브로커를 다시 몰아치지 않도록 절반 구간을 무작위로 분산합니다.
+     */
+    public Duration backoffFor(int attempt) {
+        double exponential = initialBackoff.toMillis() * Math.pow(multiplier, Math.max(0, attempt - 1));
+        long capped = (long) Math.min(exponential, maxBackoff.toMillis());
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    public String deadLetterTopicOf(String topic) {
+        return topic + dltSuffix;
+    }
+}
@@ -0,0 +1,19 @@
+package com.examples.demolog.domains.common.outbox.event;
+
+import com.examples.demolog.domains.common.outbox.model.Outbox;
+
+import java.util.UUID;
+
+/**
+ * 아웃박스 행 저장 이벤트 (스프링 애플리케이션 이벤트)
+ * - 저장 트랜잭션이 커밋된 직후 릴레이에 전달되어 폴링 주기를 기다리지 않고 즉시 발행되도록 합니다.
+ */
+public record OutboxSavedEvent(
+        UUID outboxId,
+        int shard
+) {
+
+    public static OutboxSavedEvent from(Outbox outbox) {
+        return new OutboxSavedEvent(outbox.getId(), outbox.getShard());
+    }
+}
@@ -0,0 +1,265 @@
+package com.examples.demolog.domains.common.outbox.lease;
+
+import com.examples.demolog.domains.common.outbox.config.OutboxLeaseProperties;
+import com.examples.demolog.domains.common.outbox.model.Outbox;
+import com.examples.demolog.domains.common.outbox.repository.OutboxShardFenceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아웃박스 가상 샤드 임대 관리자
+ * <p>
+ * 여러 인스턴스가 같은 행을 동시에 조회하지 않도록 가상 샤드(Outbox.SHARD_COUNT)를 Redis 임대로 나눠 가집니다.
+ * - 임대: SET outbox:lease:shard:{n} {nodeId} NX PX ttl (만료되면 다른 노드가 회수)
+ * - 하트비트: 주기적으로 보유 임대를 갱신하고, 노드 목록(ZSET, score=마지막 하트비트 시각)에 자신을 기록
+ * - 재분배: 살아있는 노드 수 N 기준으로 노드당 ceil(SHARD_COUNT / N) 개까지만 보유
+ *   초과분은 반납하고, 부족하면 비어있는 샤드를 획득합니다. 노드가 추가/제거되면 몇 번의 하트비트 안에 수렴합니다.
+ * <p>
+ * 배치 선점(FOR UPDATE SKIP LOCKED)은 같은 행의 중복 발행만 막고 순서는 보장하지 않습니다.
+ * 이전 보유자가 집계의 앞 이벤트를 잠근 채 발행하는 동안 새 보유자가 그 행을 건너뛰고 뒤 이벤트를 먼저 발행할 수 있으므로,
+ * 샤드 인계는 두 단계로 막습니다.
+ * - 임대 만료: 보유자는 갱신 요청 직전 시각 + leaseTtl 까지만 샤드를 보유한 것으로 봅니다. (owns)
+ *   Redis 키는 그보다 늦게 만료되므로, 새 보유자는 이전 보유자가 스스로 손을 뗀 뒤에만 임대를 획득합니다.
+ * - 펜싱 토큰: 임대를 획득할 때마다 샤드별 카운터를 증가시켜 토큰으로 받습니다.
+ *   릴레이는 선점 트랜잭션 안에서 OUTBOX_SHARD_FENCE 행을 토큰으로 먼저 갱신한 뒤 선점합니다. (fence)
+ *   같은 행 잠금 때문에 이전 보유자의 진행 중인 트랜잭션이 끝난 뒤에야 새 보유자가 선점하며,
+ *   새 토큰이 기록된 뒤에는 이전 보유자의 선점이 거부됩니다. (GC 정지 등으로 만료를 늦게 알아챈 경우)
+ */
+@Slf4j
+@Component
+public class OutboxShardLeaseManager {
+
+    // 비어있는 샤드 임대를 획득하고 펜싱 토큰 발급 (획득 실패 시 0)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return redis.call('INCR', KEYS[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 펜싱에서 밀려난 임대 반납 + 토큰 카운터를 DB 에 기록된 토큰 이상으로 올림 (Redis 데이터 유실 대비)
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[2]) or '0') < tonumber(ARGV[2]) then
+                redis.call('SET', KEYS[2], ARGV[2])
+            end
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 내가 보유한 임대만 갱신 (값이 nodeId 와 같을 때만 PEXPIRE)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 내가 보유한 임대만 반납
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OutboxShardFenceRepository fenceRepository;
+    private final OutboxLeaseProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Integer, Lease> ownedShards = new ConcurrentHashMap<>();
+
+    public OutboxShardLeaseManager(StringRedisTemplate redisTemplate, OutboxShardFenceRepository fenceRepository,
+                                   OutboxLeaseProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.fenceRepository = fenceRepository;
+        this.properties = properties;
+
+        Gauge.builder("outbox.lease.owned.shards", ownedShards, Map::size)
+                .description("이 인스턴스가 임대 중인 아웃박스 가상 샤드 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        heartbeat();
+    }
+
+    /**
+     * 현재 임대 중인 샤드인지 여부 (임대를 사용하지 않으면 모든 샤드)
+     */
+    public boolean owns(int shard) {
+        if (!properties.enabled()) {
+            return true;
+        }
+        Lease lease = ownedShards.get(shard);
+        return lease != null && lease.isValid();
+    }
+
+    /**
+     * 선점 직전 샤드 펜싱 (호출자의 선점 트랜잭션 안에서 실행)
+     * - OUTBOX_SHARD_FENCE 행을 내 펜싱 토큰으로 갱신합니다. 행 잠금은 커밋까지 유지되므로
+     *   이전 보유자의 선점 트랜잭션이 진행 중이면 끝날 때까지 기다립니다.
+     * - 더 큰 토큰이 이미 기록되어 있으면 임대를 포기합니다.
+     *
+     * @return 이 샤드를 선점해도 되는지 여부
+     */
+    public boolean fence(int shard) {
+        if (!properties.enabled()) {
+            return true;
+        }
+        Lease lease = ownedShards.get(shard);
+        if (lease == null || !lease.isValid()) {
+            return false;
+        }
+        if (fenceRepository.advance(shard, lease.fencingToken()) > 0) {
+            return true;
+        }
+        fenceRepository.insertIfAbsent(shard);
+        if (fenceRepository.advance(shard, lease.fencingToken()) > 0) {
+            return true;
+        }
+        revoke(shard, fenceRepository.findTokenByShard(shard));
+        return false;
+    }
+
+    /**
+     * 임대 갱신 및 재분배
+     */
+    @Scheduled(fixedDelayString = "${outbox.lease.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            int target = (int) Math.ceil((double) Outbox.SHARD_COUNT / registerAndCountLiveNodes());
+            renewOwned();
+            if (ownedShards.size() > target) {
+                releaseExcess(ownedShards.size() - target);
+            } else if (ownedShards.size() < target) {
+                acquireFree(target - ownedShards.size());
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 갱신하지 못한 임대는 만료되므로 보유 목록을 비워 다른 노드와 겹치는 시간을 줄임
+            log.error("Outbox 샤드 임대 갱신 실패, 보유 샤드 반납: nodeId={}", nodeId, e);
+            ownedShards.clear();
+        }
+    }
+
+    @PreDestroy
+    void releaseAll() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            new ArrayList<>(ownedShards.keySet()).forEach(this::release);
+            redisTemplate.opsForZSet().remove(nodesKey(), nodeId);
+            log.info("Outbox 샤드 임대 전체 반납: nodeId={}", nodeId);
+        } catch (Exception e) {
+            log.warn("Outbox 샤드 임대 반납 실패 (만료 후 회수됨): nodeId={}", nodeId, e);
+        }
+    }
+
+    // 하트비트를 기록하고, 만료된 노드를 정리한 뒤 살아있는 노드 수 반환
+    private long registerAndCountLiveNodes() {
+        long now = System.currentTimeMillis();
+        long expiredBefore = now - properties.leaseTtl().toMillis();
+        redisTemplate.opsForZSet().add(nodesKey(), nodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(nodesKey(), Double.NEGATIVE_INFINITY, expiredBefore);
+        Long live = redisTemplate.opsForZSet().count(nodesKey(), expiredBefore, Double.POSITIVE_INFINITY);
+        return Math.max(1, live == null ? 1 : live);
+    }
+
+    // 갱신 요청 직전 시각부터 만료 시간을 계산하므로 로컬 만료가 Redis 키 만료보다 항상 먼저 옴
+    private void renewOwned() {
+        String ttl = String.valueOf(properties.leaseTtl().toMillis());
+        for (Map.Entry<Integer, Lease> owned : List.copyOf(ownedShards.entrySet())) {
+            int shard = owned.getKey();
+            long requestedAt = System.nanoTime();
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(shardKey(shard)), nodeId, ttl);
+            if (renewed == null || renewed == 0) {
+                ownedShards.remove(shard);
+                log.warn("Outbox 샤드 임대 상실: nodeId={}, shard={}", nodeId, shard);
+            } else {
+                ownedShards.put(shard, new Lease(owned.getValue().fencingToken(), requestedAt + properties.leaseTtl().toNanos()));
+            }
+        }
+    }
+
+    private void releaseExcess(int count) {
+        List<Integer> excess = ownedShards.keySet().stream().sorted().limit(count).toList();
+        excess.forEach(this::release);
+        log.info("Outbox 샤드 임대 반납 (재분배): nodeId={}, shards={}", nodeId, excess);
+    }
+
+    private void release(int shard) {
+        ownedShards.remove(shard);
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(shardKey(shard)), nodeId);
+    }
+
+    // 더 큰 펜싱 토큰이 기록된 샤드의 임대 포기
+    private void revoke(int shard, long fencedBy) {
+        ownedShards.remove(shard);
+        redisTemplate.execute(REVOKE_SCRIPT, List.of(shardKey(shard), fenceKey(shard)), nodeId, String.valueOf(fencedBy));
+        log.warn("Outbox 샤드 임대 펜싱으로 포기: nodeId={}, shard={}, fencedBy={}", nodeId, shard, fencedBy);
+    }
+
+    // 노드마다 다른 시작 위치부터 빈 샤드를 찾아 경합을 줄임
+    private void acquireFree(int count) {
+        int offset = Math.floorMod(nodeId.hashCode(), Outbox.SHARD_COUNT);
+        String ttl = String.valueOf(properties.leaseTtl().toMillis());
+        List<Integer> acquired = new ArrayList<>();
+        for (int i = 0; i < Outbox.SHARD_COUNT && acquired.size() < count; i++) {
+            int shard = (offset + i) % Outbox.SHARD_COUNT;
+            if (ownedShards.containsKey(shard)) {
+                continue;
+            }
+            long requestedAt = System.nanoTime();
+            Long fencingToken = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(shardKey(shard), fenceKey(shard)), nodeId, ttl);
+            if (fencingToken != null && fencingToken > 0) {
+                ownedShards.put(shard, new Lease(fencingToken, requestedAt + properties.leaseTtl().toNanos()));
+                acquired.add(shard);
+            }
+        }
+        if (!acquired.isEmpty()) {
+            log.info("Outbox 샤드 임대 획득: nodeId={}, shards={}, owned={}", nodeId, acquired, ownedShards.size());
+        }
+    }
+
+    private String shardKey(int shard) {
+        return properties.keyPrefix() + "shard:" + shard;
+    }
+
+    private String fenceKey(int shard) {
+        return properties.keyPrefix() + "fence:" + shard;
+    }
+
+    private String nodesKey() {
+        return properties.keyPrefix() + "nodes";
+    }
+
+    // 샤드 임대 (펜싱 토큰 + 로컬 만료 시각, System.nanoTime 기준)
+    private record Lease(long fencingToken, long expiresAtNanos) {
+
+        boolean isValid() {
+            return expiresAtNanos - System.nanoTime() > 0;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.examples.demolog.domains.common.outbox.metrics;
+
+import com.examples.demolog.domains.common.outbox.model.Outbox;
+import com.examples.demolog.domains.common.outbox.model.OutboxStatus;
+import com.examples.demolog.domains.common.outbox.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이 메트릭 (/actuator/metrics, /actuator/prometheus)
+ * <p>
+ * - outbox.relay.lag                  : 가장 오래된 PENDING 이벤트의 대기 시간 (릴레이 지연)
+ * - outbox.events.backlog             : 토픽/상태(PENDING, FAILED)별 행 수
+ * - outbox.relay.published            : 발행 완료 이벤트 수 (rate() 로 초당 발행 수 산출)
+ * - outbox.relay.failed               : 발행 실패 이벤트 수
+ * - outbox.relay.dead.lettered        : 데드 레터 토픽으로 이관된 이벤트 수
+ * - outbox.relay.coalesced            : 같은 배치의 반대 이벤트와 상쇄되어 발행을 생략한 이벤트 수
+ * - outbox.relay.send.latency         : 전송 요청 ~ 브로커 응답 시간 히스토그램 (eventType 별)
+ * - outbox.relay.delivery.latency     : 아웃박스 저장 ~ 브로커 응답 시간 히스토그램 (eventType 별)
+ * <p>
+ * DB 를 조회하는 게이지(lag, backlog)는 스크레이프마다 쿼리하지 않도록 주기적으로 갱신한 값을 노출합니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelayMetrics {
+
+    private static final List<OutboxStatus> BACKLOG_STATUSES = List.of(OutboxStatus.PENDING, OutboxStatus.FAILED);
+
+    private final MeterRegistry meterRegistry;
+    private final OutboxRepository outboxRepository;
+    private final MultiGauge backlogGauge;
+    private final Map<String, EventMeters> eventMeters = new ConcurrentHashMap<>();
+
+    private volatile double oldestPendingAgeSeconds;
+
+    public OutboxRelayMetrics(MeterRegistry meterRegistry, OutboxRepository outboxRepository) {
+        this.meterRegistry = meterRegistry;
+        this.outboxRepository = outboxRepository;
+
+        TimeGauge.builder("outbox.relay.lag", this, TimeUnit.SECONDS, metrics -> metrics.oldestPendingAgeSeconds)
+                .description("가장 오래된 PENDING 아웃박스 이벤트의 대기 시간")
+                .register(meterRegistry);
+        this.backlogGauge = MultiGauge.builder("outbox.events.backlog")
+                .description("토픽/상태별 미발행 아웃박스 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 릴레이 지연 / 적체 게이지 갱신
+     */
+    @Scheduled(fixedDelayString = "${outbox.metrics.refresh-interval-ms:10000}")
+    public void refreshBacklog() {
+        try {
+            LocalDateTime oldestPendingAt = outboxRepository.findOldestCreatedAtByStatus(OutboxStatus.PENDING);
+            oldestPendingAgeSeconds = (oldestPendingAt == null)
+                    ? 0
+                    : Math.max(0, Duration.between(oldestPendingAt, LocalDateTime.now()).toMillis() / 1000.0);
+
+            backlogGauge.register(outboxRepository.countByStatusInGroupByTopic(BACKLOG_STATUSES).stream()
+                    .map(row -> MultiGauge.Row.of(Tags.of("topic", row.getTopic(), "status", row.getStatus().name()), row.getCount()))
+                    .toList(), true);
+        } catch (Exception e) {
+            log.warn("Outbox 메트릭 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 발행 완료 기록 (프로듀서 I/O 스레드에서 호출되므로 미터 조회 비용을 캐시로 최소화)
+     */
+    public void recordPublished(Outbox outbox, long sendNanos) {
+        EventMeters meters = metersOf(outbox);
+        meters.published().increment();
+        meters.sendLatency().record(sendNanos, TimeUnit.NANOSECONDS);
+        meters.deliveryLatency().record(Duration.between(outbox.getCreatedAt(), LocalDateTime.now()));
+    }
+
+    /**
+     * 발행 실패 기록
+     */
+    public void recordFailed(Outbox outbox) {
+        metersOf(outbox).failed().increment();
+    }
+
+    /**
+     * 데드 레터 이관 기록
+     */
+    public void recordDeadLettered(Outbox outbox) {
+        metersOf(outbox).deadLettered().increment();
+    }
+
+    /**
+     * 상쇄 병합 기록
+     */
+    public void recordCoalesced(Outbox outbox) {
+        metersOf(outbox).coalesced().increment();
+    }
+
+    private EventMeters metersOf(Outbox outbox) {
+        return eventMeters.computeIfAbsent(outbox.getTopic() + "|" + outbox.getEventType(), key -> {
+            Tags tags = Tags.of("topic", outbox.getTopic(), "eventType", outbox.getEventType());
+            return new EventMeters(
+                    Counter.builder("outbox.relay.published").tags(tags).register(meterRegistry),
+                    Counter.builder("outbox.relay.failed").tags(tags).register(meterRegistry),
+                    Counter.builder("outbox.relay.dead.lettered").tags(tags).register(meterRegistry),
+                    Counter.builder("outbox.relay.coalesced").tags(tags).register(meterRegistry),
+                    Timer.builder("outbox.relay.send.latency").tags(tags).publishPercentileHistogram().register(meterRegistry),
+                    Timer.builder("outbox.relay.delivery.latency").tags(tags).publishPercentileHistogram().register(meterRegistry)
+            );
+        });
+    }
+
+    // 토픽/이벤트 타입별 미터 묶음
+    private record EventMeters(
+            Counter published,
+            Counter failed,
+            Counter deadLettered,
+            Counter coalesced,
+            Timer sendLatency,
+            Timer deliveryLatency
+    ) {
+    }
+}
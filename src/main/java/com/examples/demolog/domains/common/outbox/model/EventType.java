@@ -16,4 +16,12 @@ public enum EventType {
     private final String topic; // 어그리게이트 타입
     private final String aggregateType; // 어그리게이트 타입
 
+    /**
+     * 같은 행위자가 연속으로 발생시키면 서로 상쇄되는 이벤트 쌍인지 여부 (예: 좋아요 → 좋아요 취소)
+     */
+    public static boolean cancelsOut(String previousEventType, String nextEventType) {
+        return (POST_LIKED.name().equals(previousEventType) && POST_UNLIKED.name().equals(nextEventType))
+                || (POST_UNLIKED.name().equals(previousEventType) && POST_LIKED.name().equals(nextEventType));
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.examples.demolog.domains.common.outbox.model;
 
 import com.examples.demolog.domains.common.kafka.event.DomainEvent;
+import com.examples.demolog.global.utils.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -10,7 +11,10 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "OUTBOX", indexes = {
-    @Index(name = "idx_outbox_status_created_at", columnList = "status, created_at")
+    @Index(name = "idx_outbox_status_created_at", columnList = "status, created_at"),
+    @Index(name = "idx_outbox_status_shard_created_at", columnList = "status, shard, created_at"),
+    @Index(name = "idx_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_outbox_status_aggregate_id_created_at", columnList = "status, aggregate_id, created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -18,8 +22,11 @@ import java.util.UUID;
 @Builder(access = AccessLevel.PRIVATE)
 public class Outbox {
 
+    // 가상 샤드 수 (저장된 값이므로 변경 시 기존 행 재계산 필요)
+    public static final int SHARD_COUNT = 64;
+
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -39,6 +46,14 @@ public class Outbox {
     @Column(nullable = false, columnDefinition = "BINARY(16)")
     private UUID aggregateId;
 
+    // 이벤트를 발생시킨 사용자 ID (상쇄 이벤트 병합 기준)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID actorId;
+
+    // 가상 샤드 (aggregateId 해시) - 같은 집계의 이벤트는 항상 같은 샤드/레인에서 순서대로 발행
+    @Column(nullable = false)
+    private int shard;
+
     // 이벤트 페이로드 (JSON)
     @Column(nullable = false, columnDefinition = "TEXT")
     private String payload;
@@ -55,6 +70,13 @@ public class Outbox {
     // Kafka 발행 완료 시각
     private LocalDateTime processedAt;
 
+    // 발행 실패 횟수
+    @Column(nullable = false)
+    private int attemptCount;
+
+    // 다음 재시도 시각 (FAILED 상태에서만 사용)
+    private LocalDateTime nextAttemptAt;
+
     /**
      * 생성 메서드
      */
@@ -64,12 +86,21 @@ public class Outbox {
                 .eventType(domainEvent.eventType())
                 .aggregateType(domainEvent.aggregateType())
                 .aggregateId(domainEvent.aggregateId())
+                .actorId(domainEvent.actorId())
+                .shard(shardOf(domainEvent.aggregateId()))
                 .payload(payload)
                 .status(OutboxStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .build();
     }
 
+    /**
+     * 집계 ID 가 속한 가상 샤드
+     */
+    public static int shardOf(UUID aggregateId) {
+        return Math.floorMod(aggregateId.hashCode(), SHARD_COUNT);
+    }
+
     /**
      * 발행 완료 처리
      */
@@ -79,9 +110,27 @@ public class Outbox {
     }
 
     /**
-     * 발행 실패 처리
+     * 발행 실패 처리 (실패 횟수 증가 및 다음 재시도 시각 예약)
      */
-    public void markAsFailed() {
+    public void markAsFailed(LocalDateTime nextAttemptAt) {
         this.status = OutboxStatus.FAILED;
+        this.attemptCount++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 재시도 횟수 소진 여부
+     */
+    public boolean isRetryExhausted(int maxAttempts) {
+        return this.attemptCount >= maxAttempts;
+    }
+
+    /**
+     * 데드 레터 토픽 이관 완료 처리
+     */
+    public void markAsDeadLettered() {
+        this.status = OutboxStatus.DEAD_LETTERED;
+        this.processedAt = LocalDateTime.now();
+        this.nextAttemptAt = null;
     }
 }
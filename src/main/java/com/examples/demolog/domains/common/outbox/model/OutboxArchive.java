@@ -0,0 +1,59 @@
+package com.examples.demolog.domains.common.outbox.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보존 기간이 지난 발행 완료 아웃박스 이벤트 보관 테이블
+ * - OutboxRepository.archiveByIdIn (INSERT ... SELECT) 으로만 적재됩니다.
+ */
+@Entity
+@Table(name = "OUTBOX_ARCHIVE")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxArchive {
+
+    // 원본 Outbox ID
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false, columnDefinition = "BINARY(16)")
+    private UUID aggregateId;
+
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID actorId;
+
+    @Column(nullable = false)
+    private int shard;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    // 이관 시각
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
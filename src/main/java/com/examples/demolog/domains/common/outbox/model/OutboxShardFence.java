@@ -0,0 +1,26 @@
+package com.examples.demolog.domains.common.outbox.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아웃박스 샤드 펜스
+ * - 샤드를 선점한 마지막 임대의 펜싱 토큰을 기록합니다. (OutboxShardLeaseManager.fence)
+ * - 선점 트랜잭션이 이 행을 먼저 갱신하므로 같은 샤드의 선점 트랜잭션은 노드가 달라도 차례로 실행됩니다.
+ */
+@Entity
+@Table(name = "OUTBOX_SHARD_FENCE")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxShardFence {
+
+    // 가상 샤드
+    @Id
+    private int shard;
+
+    // 마지막으로 선점한 임대의 펜싱 토큰 (줄어들지 않음)
+    @Column(nullable = false)
+    private long token;
+}
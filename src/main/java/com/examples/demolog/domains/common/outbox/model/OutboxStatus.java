@@ -1,7 +1,9 @@
 package com.examples.demolog.domains.common.outbox.model;
 
 public enum OutboxStatus {
-    PENDING,    // 발행 대기
-    PUBLISHED,  // 발행 완료
-    FAILED      // 발행 실패
+    PENDING,        // 발행 대기
+    PUBLISHED,      // 발행 완료
+    COALESCED,      // 같은 배치의 반대 이벤트와 상쇄되어 발행 생략
+    FAILED,         // 발행 실패 (nextAttemptAt 이후 재시도)
+    DEAD_LETTERED   // 재시도 횟수 소진, 데드 레터 토픽으로 이관 완료
 }
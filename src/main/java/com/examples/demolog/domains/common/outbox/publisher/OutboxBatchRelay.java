@@ -0,0 +1,308 @@
+package com.examples.demolog.domains.common.outbox.publisher;
+
+import com.examples.demolog.domains.common.kafka.event.EventHeaders;
+import com.examples.demolog.domains.common.outbox.config.OutboxRelayProperties;
+import com.examples.demolog.domains.common.outbox.config.OutboxRetryProperties;
+import com.examples.demolog.domains.common.outbox.lease.OutboxShardLeaseManager;
+import com.examples.demolog.domains.common.outbox.metrics.OutboxRelayMetrics;
+import com.examples.demolog.domains.common.outbox.model.Outbox;
+import com.examples.demolog.domains.common.outbox.model.OutboxStatus;
+import com.examples.demolog.domains.common.outbox.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 배치 단위 릴레이
+ * - 배치 하나를 선점하고 발행한 뒤 곧바로 커밋합니다. (짧은 트랜잭션)
+ * - 샤드마다 선점 전에 펜싱하므로 샤드 인계 중에도 같은 샤드의 선점 트랜잭션은 차례로 실행됩니다. (OutboxShardLeaseManager.fence)
+ * - 배치 내 이벤트는 응답을 기다리지 않고 연속으로 전송(파이프라이닝)한 뒤 결과를 모아 한 번에 상태를 반영합니다.
+ * - 같은 집계의 이벤트는 같은 키(파티션)로, 앞 이벤트의 전송이 성공한 뒤에 차례로 전송합니다.
+ *   앞 이벤트가 실패하면 뒤 이벤트는 보류(상태 유지)되어 앞 이벤트의 재발행 뒤에 발행됩니다.
+ * - outbox.relay.transactional=true 면 배치 전체를 하나의 Kafka 트랜잭션으로 전송합니다. (OutboxTransactionalSender)
+ * - 같은 배치 안에서 서로 상쇄되는 이벤트는 발행하지 않고 COALESCED 로 처리합니다.
+ * - 발행에 실패한 이벤트는 지수 백오프로 재시도를 예약하고, 재시도 횟수를 소진하면 데드 레터 토픽으로 이관합니다.
+ *   재시도를 기다리는 동안 같은 집계의 뒤 이벤트는 선점하지 않으므로 집계 단위 발행 순서가 유지됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxBatchRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxRelayProperties properties;
+    private final OutboxRetryProperties retryProperties;
+    private final OutboxEventCoalescer outboxEventCoalescer;
+    private final ObjectProvider<OutboxTransactionalSender> transactionalSenderProvider;
+    private final OutboxRelayMetrics relayMetrics;
+    private final OutboxShardLeaseManager shardLeaseManager;
+
+    /**
+     * 지정한 샤드들의 발행 대기 이벤트를 샤드마다 나눠 최대 batchSize 건 선점하여 발행
+     * - 샤드별 선점 한도는 batchSize 를 샤드 수로 나눈 값이므로 한 샤드의 적체가 다른 샤드를 굶기지 않습니다.
+     *
+     * @return 선점한 이벤트 수
+     */
+    @Transactional
+    public int relayNextBatch(Collection<Integer> shards, int batchSize) {
+        int perShardLimit = Math.ceilDiv(batchSize, Math.max(1, shards.size()));
+        List<Outbox> batch = new ArrayList<>();
+        for (int shard : shards) {
+            if (!shardLeaseManager.fence(shard)) {
+                continue;
+            }
+            batch.addAll(outboxRepository.claimPendingBatch(shard, Math.min(perShardLimit, batchSize - batch.size())));
+            if (batch.size() >= batchSize) {
+                break;
+            }
+        }
+        relay(batch);
+        return batch.size();
+    }
+
+    /**
+     * 재시도 시각이 도래한 발행 실패 이벤트를 최대 batchSize 건 선점하여 재발행
+     * - 레인이 PENDING 이벤트보다 먼저 호출하므로 같은 집계의 이벤트가 생성 순서대로 발행됩니다.
+     *
+     * @return 선점한 이벤트 수
+     */
+    @Transactional
+    public int relayRetryBatch(Collection<Integer> shards, int batchSize) {
+        List<Integer> fenced = shards.stream().filter(shardLeaseManager::fence).toList();
+        if (fenced.isEmpty()) {
+            return 0;
+        }
+        List<Outbox> batch = outboxRepository.claimRetryableBatch(fenced, LocalDateTime.now(), batchSize);
+        relay(batch);
+        return batch.size();
+    }
+
+    private void relay(List<Outbox> claimed) {
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        // 0단계: 배치 안에서 서로 상쇄되는 이벤트(좋아요 → 좋아요 취소) 병합
+        OutboxEventCoalescer.Result coalesceResult = outboxEventCoalescer.coalesce(claimed);
+        List<Outbox> batch = coalesceResult.toPublish();
+        if (!coalesceResult.coalesced().isEmpty()) {
+            outboxRepository.updateStatusByIdIn(
+                    coalesceResult.coalesced().stream().map(Outbox::getId).toList(), OutboxStatus.COALESCED, LocalDateTime.now());
+            coalesceResult.coalesced().forEach(relayMetrics::recordCoalesced);
+        }
+
+        // 1~2단계: 전송 및 결과 수집
+        List<UUID> publishedIds = new ArrayList<>();
+        List<Outbox> failed = new ArrayList<>();
+        OutboxTransactionalSender transactionalSender = transactionalSenderProvider.getIfAvailable();
+        if (transactionalSender != null) {
+            sendInKafkaTransaction(transactionalSender, batch, publishedIds, failed);
+        } else {
+            sendPipelined(batch, publishedIds, failed);
+        }
+
+        // 3단계: 상태 반영 (성공은 단일 UPDATE, 실패는 재시도 예약 또는 데드 레터 이관)
+        if (!publishedIds.isEmpty()) {
+            outboxRepository.updateStatusByIdIn(publishedIds, OutboxStatus.PUBLISHED, LocalDateTime.now());
+        }
+        if (!failed.isEmpty()) {
+            handleFailures(failed);
+        }
+        log.info("Outbox 배치 발행 완료: claimed={}, coalesced={}, published={}, failed={}",
+                claimed.size(), coalesceResult.coalesced().size(), publishedIds.size(), failed.size());
+    }
+
+    /*
+     * 배치 전체를 in-flight 상태로 전송한 뒤 결과 수집 (배치 전체가 하나의 타임아웃을 공유)
+     * - 서로 다른 집계의 이벤트는 응답을 기다리지 않고 연속으로 전송하고,
+     *   같은 집계의 뒤 이벤트는 앞 이벤트의 전송이 성공한 뒤에 전송합니다.
+     * - 앞 이벤트가 실패하면(직렬화·크기 초과·타임아웃 등) 같은 집계의 뒤 이벤트는 전송하지 않고 상태를 그대로 둡니다.
+     *   (시도 횟수도 늘리지 않음) 앞 이벤트가 재발행된 뒤 다시 선점되므로 집계 단위 순서가 유지됩니다.
+     * - 결과 수집이 끝나면 아직 전송하지 않은 뒤 이벤트는 더 이상 전송하지 않습니다. (앞 이벤트가 타임아웃 후 늦게 성공한 경우)
+     */
+    private void sendPipelined(List<Outbox> batch, List<UUID> publishedIds, List<Outbox> failed) {
+        AtomicBoolean collected = new AtomicBoolean(false);
+        Map<UUID, CompletableFuture<SendResult<String, String>>> lastSendByAggregate = new HashMap<>();
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(batch.size());
+        for (Outbox outbox : batch) {
+            CompletableFuture<SendResult<String, String>> previous = lastSendByAggregate.get(outbox.getAggregateId());
+            CompletableFuture<SendResult<String, String>> future = previous == null
+                    ? sendTimed(outbox)
+                    : previous.thenComposeAsync(ignored -> collected.get()
+                            ? CompletableFuture.failedFuture(new IllegalStateException("결과 수집 이후 전송 생략"))
+                            : sendTimed(outbox));
+            lastSendByAggregate.put(outbox.getAggregateId(), future);
+            futures.add(future);
+        }
+
+        Set<UUID> failedAggregateIds = new HashSet<>();
+        List<Outbox> heldBack = new ArrayList<>();
+        awaitAll(futures, (i, error) -> {
+            Outbox outbox = batch.get(i);
+            if (failedAggregateIds.contains(outbox.getAggregateId())) {
+                heldBack.add(outbox);
+                return;
+            }
+            if (error == null) {
+                publishedIds.add(outbox.getId());
+                return;
+            }
+            recordFailure(outbox, error);
+            failed.add(outbox);
+            failedAggregateIds.add(outbox.getAggregateId());
+        });
+        collected.set(true);
+
+        if (!heldBack.isEmpty()) {
+            log.warn("Outbox 같은 집계의 앞 이벤트 발행 실패로 뒤 이벤트 보류: heldBack={}, aggregateIds={}",
+                    heldBack.size(), failedAggregateIds);
+        }
+    }
+
+    // 배치 전체를 하나의 Kafka 트랜잭션으로 전송 (커밋되면 전부 성공, 중단·기한 초과면 전부 실패, 기한은 OutboxTransactionalSender 참고)
+    private void sendInKafkaTransaction(OutboxTransactionalSender transactionalSender, List<Outbox> batch,
+                                        List<UUID> publishedIds, List<Outbox> failed) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            transactionalSender.sendAll(batch.stream().map(this::toRecord).toList());
+        } catch (Exception e) {
+            batch.forEach(outbox -> recordFailure(outbox, e));
+            failed.addAll(batch);
+            return;
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        batch.forEach(outbox -> {
+            relayMetrics.recordPublished(outbox, elapsed);
+            publishedIds.add(outbox.getId());
+        });
+    }
+
+    private void recordFailure(Outbox outbox, Exception error) {
+        relayMetrics.recordFailed(outbox);
+        log.error("Outbox 이벤트 발행 실패: topic={}, eventType={}, aggregateId={}, attempt={}",
+                outbox.getTopic(), outbox.getEventType(), outbox.getAggregateId(), outbox.getAttemptCount() + 1, error);
+    }
+
+    // 실패 횟수를 기록하고, 재시도 횟수를 소진한 이벤트는 데드 레터 토픽으로 전송
+    private void handleFailures(List<Outbox> failed) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Outbox> exhausted = new ArrayList<>();
+        for (Outbox outbox : failed) {
+            outbox.markAsFailed(now.plus(retryProperties.backoffFor(outbox.getAttemptCount() + 1)));
+            if (outbox.isRetryExhausted(retryProperties.maxAttempts())) {
+                exhausted.add(outbox);
+            }
+        }
+        if (exhausted.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = exhausted.stream()
+                .map(this::toDeadLetterRecord)
+                .map(this::send)
+                .toList();
+
+        // 데드 레터 전송까지 실패하면 FAILED 로 남겨 다음 재시도 주기에 다시 이관 시도
+        awaitAll(futures, (i, error) -> {
+            Outbox outbox = exhausted.get(i);
+            if (error == null) {
+                outbox.markAsDeadLettered();
+                relayMetrics.recordDeadLettered(outbox);
+                log.warn("Outbox 이벤트 데드 레터 이관: topic={}, eventType={}, aggregateId={}, attempts={}",
+                        outbox.getTopic(), outbox.getEventType(), outbox.getAggregateId(), outbox.getAttemptCount());
+            } else {
+                log.error("Outbox 데드 레터 전송 실패: topic={}, aggregateId={}",
+                        retryProperties.deadLetterTopicOf(outbox.getTopic()), outbox.getAggregateId(), error);
+            }
+        });
+    }
+
+    // 아웃박스 ID 를 이벤트 ID 헤더로 실어 보내 컨슈머가 재전달된 이벤트를 식별할 수 있도록 함
+    private ProducerRecord<String, String> toRecord(Outbox outbox) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+                outbox.getTopic(), outbox.getAggregateId().toString(), outbox.getPayload());
+        record.headers().add(EventHeaders.EVENT_ID, EventHeaders.encode(outbox.getId()));
+        return record;
+    }
+
+    private ProducerRecord<String, String> toDeadLetterRecord(Outbox outbox) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+                retryProperties.deadLetterTopicOf(outbox.getTopic()),
+                outbox.getAggregateId().toString(),
+                outbox.getPayload()
+        );
+        record.headers()
+                .add(EventHeaders.EVENT_ID, EventHeaders.encode(outbox.getId()))
+                .add("outbox-id", outbox.getId().toString().getBytes(StandardCharsets.UTF_8))
+                .add("original-topic", outbox.getTopic().getBytes(StandardCharsets.UTF_8))
+                .add("event-type", outbox.getEventType().getBytes(StandardCharsets.UTF_8))
+                .add("attempts", String.valueOf(outbox.getAttemptCount()).getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    // 원본 토픽으로 전송하며 브로커 응답까지의 시간을 기록
+    private CompletableFuture<SendResult<String, String>> sendTimed(Outbox outbox) {
+        long startedAt = System.nanoTime();
+        return send(toRecord(outbox))
+                .whenComplete((result, error) -> {
+                    if (error == null) {
+                        relayMetrics.recordPublished(outbox, System.nanoTime() - startedAt);
+                    }
+                });
+    }
+
+    // 전송 요청 시점의 예외(버퍼 초과, 메타데이터 조회 실패 등)도 실패한 Future로 통일
+    private CompletableFuture<SendResult<String, String>> send(ProducerRecord<String, String> record) {
+        try {
+            return kafkaTemplate.send(record);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 모든 전송 결과를 send-timeout-ms 안에서 기다리며 인덱스별 결과(error == null 이면 성공) 전달
+    private void awaitAll(List<CompletableFuture<SendResult<String, String>>> futures, SendResultHandler handler) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.sendTimeoutMs());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                handler.handle(i, null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                handler.handle(i, e);
+            } catch (Exception e) {
+                handler.handle(i, e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SendResultHandler {
+        void handle(int index, Exception error);
+    }
+}
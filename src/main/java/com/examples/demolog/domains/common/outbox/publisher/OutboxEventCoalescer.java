@@ -0,0 +1,74 @@
+package com.examples.demolog.domains.common.outbox.publisher;
+
+import com.examples.demolog.domains.common.outbox.model.EventType;
+import com.examples.demolog.domains.common.outbox.model.Outbox;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 선점한 배치 안에서 서로 상쇄되는 이벤트 병합
+ * <p>
+ * 같은 (aggregateId, actorId) 의 이벤트를 생성 순으로 보며 직전 이벤트와 상쇄되는 쌍(좋아요 → 좋아요 취소 등)을 제거합니다.
+ * 예) LIKED, UNLIKED → 발행 없음 / LIKED, UNLIKED, LIKED → 마지막 LIKED 만 발행
+ */
+@Component
+public class OutboxEventCoalescer {
+
+    /**
+     * @return 발행할 이벤트(원래 순서 유지)와 상쇄되어 발행을 생략할 이벤트
+     */
+    public Result coalesce(List<Outbox> batch) {
+        Map<ActorKey, Deque<Outbox>> survivorsByActor = new HashMap<>();
+        Set<UUID> coalescedIds = new HashSet<>();
+
+        List<Outbox> ordered = batch.stream()
+                .sorted(Comparator.comparing(Outbox::getCreatedAt))
+                .toList();
+        for (Outbox outbox : ordered) {
+            if (outbox.getActorId() == null) {
+                continue;
+            }
+
+            Deque<Outbox> survivors = survivorsByActor.computeIfAbsent(
+                    new ActorKey(outbox.getAggregateId(), outbox.getActorId()), key -> new ArrayDeque<>());
+            Outbox previous = survivors.peekLast();
+            if (previous != null && EventType.cancelsOut(previous.getEventType(), outbox.getEventType())) {
+                survivors.pollLast();
+                coalescedIds.add(previous.getId());
+                coalescedIds.add(outbox.getId());
+            } else {
+                survivors.addLast(outbox);
+            }
+        }
+
+        if (coalescedIds.isEmpty()) {
+            return new Result(batch, List.of());
+        }
+
+        List<Outbox> toPublish = new ArrayList<>();
+        List<Outbox> coalesced = new ArrayList<>();
+        for (Outbox outbox : batch) {
+            (coalescedIds.contains(outbox.getId()) ? coalesced : toPublish).add(outbox);
+        }
+        return new Result(toPublish, coalesced);
+    }
+
+    private record ActorKey(UUID aggregateId, UUID actorId) {
+    }
+
+    public record Result(
+            List<Outbox> toPublish,
+            List<Outbox> coalesced
+    ) {
+    }
+}
@@ -1,45 +1,153 @@
 package com.examples.demolog.domains.common.outbox.publisher;
 
+import com.examples.demolog.domains.common.outbox.config.OutboxRelayProperties;
+import com.examples.demolog.domains.common.outbox.event.OutboxSavedEvent;
+import com.examples.demolog.domains.common.outbox.lease.OutboxShardLeaseManager;
 import com.examples.demolog.domains.common.outbox.model.Outbox;
-import com.examples.demolog.domains.common.outbox.model.OutboxStatus;
 import com.examples.demolog.domains.common.outbox.repository.OutboxRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
+/**
+ * 아웃박스 이벤트 릴레이
+ * <p>
+ * 가상 샤드를 laneCount 개의 레인으로 나누고, 레인마다 최대 하나의 스레드가 순차적으로 배치를 발행합니다.
+ * 같은 aggregateId 는 항상 같은 레인에 속하므로 집계 단위 발행 순서가 보장되고, 레인끼리는 병렬로 처리됩니다.
+ * <p>
+ * 레인을 깨우는 경로:
+ * - 커밋 직후: 아웃박스 저장 트랜잭션이 커밋되면 해당 샤드의 레인을 즉시 깨움 (지연 수 ms)
+ * - 폴링: 커밋 훅이 유실된 경우(프로세스 재시작 등)를 위해 주기적으로 모든 레인을 깨움
+ * <p>
+ * 발행 실패 이벤트의 재시도도 같은 레인에서 PENDING 이벤트보다 먼저 처리합니다.
+ * 재시도를 기다리는 이벤트가 있는 집계의 뒤 이벤트는 선점하지 않고 보류하므로(OutboxRepository.claimPendingBatch)
+ * 발행 실패가 있어도 집계 단위 순서가 유지되며, 다른 집계의 이벤트는 기다리지 않습니다.
+ * <p>
+ * 여러 인스턴스가 실행되면 각 인스턴스는 Redis 임대로 보유한 샤드만 처리합니다. (OutboxShardLeaseManager)
+ * 다른 인스턴스가 보유한 샤드의 이벤트는 해당 인스턴스의 폴링 주기에 발행됩니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OutboxEventPublisher {
 
+    private final OutboxBatchRelay outboxBatchRelay;
+    private final OutboxRelayProperties properties;
+    private final ThreadPoolTaskExecutor outboxRelayExecutor;
+    private final OutboxShardLeaseManager shardLeaseManager;
     private final OutboxRepository outboxRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    // 레인별 실행 중 여부 / 재실행 요청 여부
+    private AtomicBoolean[] running;
+    private AtomicBoolean[] signaled;
+
+    @PostConstruct
+    void initLanes() {
+        running = IntStream.range(0, properties.laneCount()).mapToObj(i -> new AtomicBoolean()).toArray(AtomicBoolean[]::new);
+        signaled = IntStream.range(0, properties.laneCount()).mapToObj(i -> new AtomicBoolean()).toArray(AtomicBoolean[]::new);
+    }
+
+    /**
+     * 아웃박스 저장 트랜잭션 커밋 직후 해당 레인 즉시 실행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxSaved(OutboxSavedEvent event) {
+        if (!shardLeaseManager.owns(event.shard())) {
+            return;
+        }
+        log.debug("Outbox 커밋 감지, 즉시 발행 요청: outboxId={}, shard={}", event.outboxId(), event.shard());
+        signal(event.shard() % properties.laneCount());
+    }
 
     /**
-     * 아웃 박스 엔티티에 등록된 이벤트 발행
+     * 아웃 박스 엔티티에 등록된 이벤트 발행 (폴링 - 커밋 훅에서 누락된 이벤트 처리)
      */
-    @Scheduled(fixedDelay = 5000)
-    @Transactional
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:5000}")
     public void publishPendingEvents() {
-        List<Outbox> pendingEvents = outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING);
-
-        for (Outbox outbox : pendingEvents) {
-            try {
-                kafkaTemplate.send(outbox.getTopic(), outbox.getAggregateId().toString(), outbox.getPayload()).get();
-                outbox.markAsPublished();
-                log.info("Outbox 이벤트 발행 완료: topic={}, eventType={}, aggregateId={}",
-                        outbox.getTopic(), outbox.getEventType(), outbox.getAggregateId());
-            } catch (Exception e) {
-                outbox.markAsFailed();
-                log.error("Outbox 이벤트 발행 실패: topic={}, eventType={}, aggregateId={}",
-                        outbox.getTopic(), outbox.getEventType(), outbox.getAggregateId(), e);
+        IntStream.range(0, properties.laneCount()).forEach(this::signal);
+    }
+
+    /**
+     * 재시도 시각이 도래한 발행 실패 이벤트가 있는 레인 실행 (재발행은 레인 안에서 PENDING 보다 먼저 처리)
+     */
+    @Scheduled(fixedDelayString = "${outbox.retry.poll-interval-ms:1000}")
+    public void retryFailedEvents() {
+        try {
+            outboxRepository.findShardsWithRetryDue(LocalDateTime.now()).stream()
+                    .filter(shardLeaseManager::owns)
+                    .map(shard -> shard % properties.laneCount())
+                    .distinct()
+                    .forEach(this::signal);
+        } catch (Exception e) {
+            log.error("Outbox 재시도 대상 조회 실패", e);
+        }
+    }
+
+    /**
+     * 레인 실행 요청
+     * - 이미 실행 중이면 재실행 플래그만 세워 현재 실행이 끝난 뒤 한 번 더 비우도록 합니다. (요청 병합)
+     */
+    private void signal(int lane) {
+        signaled[lane].set(true);
+        if (running[lane].compareAndSet(false, true)) {
+            outboxRelayExecutor.execute(() -> runLane(lane));
+        }
+    }
+
+    private void runLane(int lane) {
+        try {
+            while (signaled[lane].getAndSet(false)) {
+                drainLane(lane);
             }
+        } finally {
+            running[lane].set(false);
+        }
+
+        // running 해제 직전에 들어온 요청 처리
+        if (signaled[lane].get()) {
+            signal(lane);
         }
     }
 
+    // 재시도 시각이 도래한 이벤트를 먼저 재발행한 뒤, 레인의 대기열이 빌 때까지(선점한 이벤트가 없을 때까지) 순차 반복
+    // - 샤드별 한도로 선점하므로 배치가 batchSize 보다 작아도 특정 샤드에 남은 이벤트가 있을 수 있음
+    private void drainLane(int lane) {
+        List<Integer> shards = shardsOf(lane);
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        try {
+            int claimed;
+            do {
+                claimed = outboxBatchRelay.relayRetryBatch(shards, properties.batchSize());
+            } while (claimed == properties.batchSize());
+
+            do {
+                claimed = outboxBatchRelay.relayNextBatch(shards, properties.batchSize());
+            } while (claimed > 0);
+        } catch (Exception e) {
+            log.error("Outbox 릴레이 레인 실행 실패: lane={}", lane, e);
+        }
+    }
+
+    // 레인에 속하면서 임대 중인 가상 샤드 목록 (shard % laneCount == lane)
+    private List<Integer> shardsOf(int lane) {
+        return IntStream.range(0, Outbox.SHARD_COUNT)
+                .filter(shard -> shard % properties.laneCount() == lane)
+                .filter(shardLeaseManager::owns)
+                .boxed()
+                .toList();
+    }
+
 }
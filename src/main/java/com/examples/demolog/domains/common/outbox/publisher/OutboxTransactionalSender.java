@@ -0,0 +1,92 @@
+package com.examples.demolog.domains.common.outbox.publisher;
+
+import com.examples.demolog.domains.common.outbox.config.OutboxRelayProperties;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 아웃박스 릴레이 전용 트랜잭션 프로듀서 (outbox.relay.transactional=true 일 때만 등록)
+ * <p>
+ * 배치 전체를 하나의 Kafka 트랜잭션으로 전송합니다.
+ * - 멱등 프로듀서: 브로커 재시도로 인한 중복 적재 제거
+ * - 트랜잭션: 배치가 전부 커밋되거나 전부 중단되므로 부분 실패 후 재발행으로 인한 중복이 생기지 않음
+ *   (read_committed 컨슈머는 중단된 메시지를 읽지 않음)
+ * - 응답은 커밋 시 한 번에 확인하므로 이벤트마다 ack 를 기다리지 않음
+ * <p>
+ * 전송 시간은 outbox.relay.send-timeout-ms 로 제한합니다. (파이프라인 전송과 같은 기한)
+ * - 전송 결과를 기한 안에 받지 못하면 예외로 트랜잭션을 중단합니다.
+ * - max.block.ms: 메타데이터 대기로 send 가 막히는 시간과 트랜잭션 시작·커밋·중단이 막히는 시간의 상한
+ * - transaction.timeout.ms: 전송 + 커밋 구간(기한의 2배)을 넘긴 트랜잭션은 브로커가 중단
+ * 따라서 배치 1회는 최대 전송 기한 + 커밋 대기(max.block.ms), 즉 send-timeout-ms 의 약 2배 안에 끝납니다.
+ * <p>
+ * 기본 KafkaTemplate / ProducerFactory 빈을 대체하지 않도록 빈으로 등록하지 않고 내부에서만 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "transactional", havingValue = "true")
+public class OutboxTransactionalSender implements DisposableBean {
+
+    private final DefaultKafkaProducerFactory<String, String> producerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final long sendTimeoutMs;
+
+    public OutboxTransactionalSender(KafkaProperties kafkaProperties, SslBundles sslBundles, OutboxRelayProperties properties) {
+        Map<String, Object> config = kafkaProperties.buildProducerProperties(sslBundles);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, properties.sendTimeoutMs());
+        config.put(ProducerConfig.TRANSACTION_TIMEOUT_CONFIG, (int) Math.min(Integer.MAX_VALUE, properties.sendTimeoutMs() * 2));
+
+        this.producerFactory = new DefaultKafkaProducerFactory<>(config);
+        this.producerFactory.setTransactionIdPrefix(properties.transactionIdPrefix());
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.sendTimeoutMs = properties.sendTimeoutMs();
+    }
+
+    /**
+     * 레코드 전체를 하나의 Kafka 트랜잭션으로 전송 (전송 실패·기한 초과·커밋 실패 시 예외, 트랜잭션은 중단됨)
+     */
+    public void sendAll(List<ProducerRecord<String, String>> records) {
+        kafkaTemplate.executeInTransaction(operations -> {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+            List<CompletableFuture<SendResult<String, String>>> futures = records.stream().map(operations::send).toList();
+            for (CompletableFuture<SendResult<String, String>> future : futures) {
+                await(future, deadline);
+            }
+            return null;
+        });
+    }
+
+    private void await(CompletableFuture<SendResult<String, String>> future, long deadline) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("트랜잭션 전송 대기 중 인터럽트", e);
+        } catch (TimeoutException e) {
+            throw new KafkaException("트랜잭션 전송 기한 초과: sendTimeoutMs=" + sendTimeoutMs, e);
+        } catch (ExecutionException e) {
+            throw new KafkaException("트랜잭션 전송 실패", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        producerFactory.destroy();
+    }
+}
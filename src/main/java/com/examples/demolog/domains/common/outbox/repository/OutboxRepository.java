@@ -3,11 +3,133 @@ package com.examples.demolog.domains.common.outbox.repository;
 import com.examples.demolog.domains.common.outbox.model.Outbox;
 import com.examples.demolog.domains.common.outbox.model.OutboxStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface OutboxRepository extends JpaRepository<Outbox, UUID> {
 
-    List<Outbox> findByStatusOrderByCreatedAtAsc(OutboxStatus status);
+    /**
+     * 샤드 하나의 발행 대기 이벤트를 생성 순으로 최대 limit 건 선점
+     * - idx_outbox_status_shard_created_at 의 (status, shard) 등치 구간을 created_at 순서 그대로 읽고 limit 건에서 멈춤
+     *   (shard IN (...) ORDER BY created_at 은 여러 구간을 합쳐 filesort 하느라 조건에 맞는 행을 모두 읽고 잠금)
+     * - SKIP LOCKED: 다른 워커가 잠근 행은 건너뛰므로 워커끼리 같은 행을 중복 발행하지 않음
+     * - 같은 집계에 먼저 생성된 FAILED 이벤트가 남아 있으면 그 이벤트가 재발행될 때까지 뒤의 이벤트를 보류 (집계 단위 순서 유지)
+     *   (idx_outbox_status_aggregate_id_created_at 으로 확인, FAILED 행은 소수)
+     */
+    @Query(value = """
+            SELECT * FROM outbox o
+            WHERE o.status = 'PENDING'
+              AND o.shard = :shard
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox f
+                  WHERE f.status = 'FAILED'
+                    AND f.aggregate_id = o.aggregate_id
+                    AND f.created_at < o.created_at
+              )
+            ORDER BY o.created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Outbox> claimPendingBatch(@Param("shard") int shard, @Param("limit") int limit);
+
+    /**
+     * 재시도 시각이 도래한 발행 실패 이벤트를 생성 순으로 최대 limit 건 선점
+     * - idx_outbox_status_next_attempt_at 인덱스 범위 스캔 (도래한 FAILED 행만 정렬)
+     * - 재시도 대기 시간에 jitter 가 있으므로, 같은 집계에 먼저 생성되었지만 아직 도래하지 않은 FAILED 이벤트가 있으면 보류
+     */
+    @Query(value = """
+            SELECT * FROM outbox o
+            WHERE o.status = 'FAILED'
+              AND o.next_attempt_at <= :now
+              AND o.shard IN (:shards)
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox f
+                  WHERE f.status = 'FAILED'
+                    AND f.aggregate_id = o.aggregate_id
+                    AND f.created_at < o.created_at
+                    AND f.next_attempt_at > :now
+              )
+            ORDER BY o.created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Outbox> claimRetryableBatch(@Param("shards") Collection<Integer> shards, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 재시도 시각이 도래한 발행 실패 이벤트가 있는 샤드 목록 (idx_outbox_status_next_attempt_at 인덱스 범위 스캔)
+     */
+    @Query(value = """
+            SELECT DISTINCT shard FROM outbox
+            WHERE status = 'FAILED'
+              AND next_attempt_at <= :now
+            """, nativeQuery = true)
+    List<Integer> findShardsWithRetryDue(@Param("now") LocalDateTime now);
+
+    /**
+     * 가장 오래된 이벤트의 생성 시각 (idx_outbox_status_created_at 인덱스의 첫 항목만 읽음)
+     */
+    @Query("SELECT MIN(o.createdAt) FROM Outbox o WHERE o.status = :status")
+    LocalDateTime findOldestCreatedAtByStatus(@Param("status") OutboxStatus status);
+
+    /**
+     * 토픽/상태별 행 수 집계
+     */
+    @Query("""
+            SELECT o.topic AS topic, o.status AS status, COUNT(o) AS count
+            FROM Outbox o
+            WHERE o.status IN :statuses
+            GROUP BY o.topic, o.status
+            """)
+    List<OutboxStatusCount> countByStatusInGroupByTopic(@Param("statuses") Collection<OutboxStatus> statuses);
+
+    /**
+     * 발행 결과 일괄 반영 (단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE Outbox o SET o.status = :status, o.processedAt = :processedAt WHERE o.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<UUID> ids,
+                           @Param("status") OutboxStatus status,
+                           @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 보존 기간이 지난 처리 완료 이벤트(status 하나)를 생성 순으로 최대 limit 건 선점
+     * - idx_outbox_status_created_at 의 status 등치 구간을 created_at 순서 그대로 읽고 limit 건에서 멈추므로
+     *   읽고 잠그는 행이 limit 건으로 제한됨 (status IN (...) 은 두 구간을 합쳐 filesort 하느라 만료된 행을 모두 읽고 잠금)
+     * - SKIP LOCKED: 다른 노드의 보존 작업이 잠근 행은 건너뜀
+     */
+    @Query(value = """
+            SELECT * FROM outbox
+            WHERE status = :status
+              AND created_at < :cutoff
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Outbox> claimProcessedBefore(@Param("status") String status, @Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 지정한 이벤트를 OUTBOX_ARCHIVE 로 복사
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO outbox_archive
+                (id, topic, event_type, aggregate_type, aggregate_id, actor_id, shard, payload, status, created_at, processed_at, archived_at)
+            SELECT id, topic, event_type, aggregate_type, aggregate_id, actor_id, shard, payload, status, created_at, processed_at, :archivedAt
+            FROM outbox
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int archiveByIdIn(@Param("ids") Collection<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * PK 목록으로 일괄 삭제 (단일 DELETE)
+     */
+    @Modifying
+    @Query("DELETE FROM Outbox o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,34 @@
+package com.examples.demolog.domains.common.outbox.repository;
+
+import com.examples.demolog.domains.common.outbox.model.OutboxShardFence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxShardFenceRepository extends JpaRepository<OutboxShardFence, Integer> {
+
+    /**
+     * 펜싱 토큰 갱신 (기록된 토큰보다 작으면 갱신하지 않음, 행 잠금은 트랜잭션 끝까지 유지)
+     *
+     * @return 갱신 대상 행 수 (0 이면 더 큰 토큰이 기록되었거나 행이 없음)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE outbox_shard_fence
+            SET token = :token
+            WHERE shard = :shard
+              AND token <= :token
+            """, nativeQuery = true)
+    int advance(@Param("shard") int shard, @Param("token") long token);
+
+    /**
+     * 샤드 펜스 행 생성 (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO outbox_shard_fence (shard, token) VALUES (:shard, 0)", nativeQuery = true)
+    int insertIfAbsent(@Param("shard") int shard);
+
+    @Query("SELECT f.token FROM OutboxShardFence f WHERE f.shard = :shard")
+    long findTokenByShard(@Param("shard") int shard);
+}
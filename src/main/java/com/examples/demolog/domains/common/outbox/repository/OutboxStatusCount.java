@@ -0,0 +1,15 @@
+package com.examples.demolog.domains.common.outbox.repository;
+
+import com.examples.demolog.domains.common.outbox.model.OutboxStatus;
+
+/**
+ * 토픽/상태별 아웃박스 행 수 (프로젝션)
+ */
+public interface OutboxStatusCount {
+
+    String getTopic();
+
+    OutboxStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,53 @@
+package com.examples.demolog.domains.common.outbox.scheduler;
+
+import com.examples.demolog.domains.common.outbox.config.OutboxRetentionProperties;
+import com.examples.demolog.domains.common.outbox.model.OutboxStatus;
+import com.examples.demolog.domains.common.outbox.service.OutboxRetentionApplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 보존 작업
+ * - 보존 기간이 지난 PUBLISHED, COALESCED, DEAD_LETTERED 행을 상태별로 작은 청크 단위로 삭제(또는 OUTBOX_ARCHIVE 로 이관)합니다.
+ * - 청크 사이에 잠시 쉬어 레플리케이션 지연이 쌓이지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbox.retention", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRetentionScheduler {
+
+    private final OutboxRetentionApplicationService outboxRetentionApplicationService;
+    private final OutboxRetentionProperties properties;
+
+    @Scheduled(cron = "${outbox.retention.cron:0 30 4 * * *}")
+    public void purgePublishedEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        long total = 0;
+
+        try {
+            for (OutboxStatus status : OutboxRetentionApplicationService.PURGEABLE_STATUSES) {
+                int purged;
+                do {
+                    purged = outboxRetentionApplicationService.purgeProcessedChunk(status, cutoff, properties.chunkSize(), properties.archive());
+                    total += purged;
+                    if (purged == properties.chunkSize()) {
+                        Thread.sleep(properties.chunkPauseMs());
+                    }
+                } while (purged == properties.chunkSize());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Outbox 보존 작업 실패: cutoff={}, purged={}", cutoff, total, e);
+            return;
+        }
+
+        log.info("Outbox 보존 작업 완료: cutoff={}, purged={}, archive={}", cutoff, total, properties.archive());
+    }
+}
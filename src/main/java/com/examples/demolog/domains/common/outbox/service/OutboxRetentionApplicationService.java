@@ -0,0 +1,48 @@
+package com.examples.demolog.domains.common.outbox.service;
+
+import com.examples.demolog.domains.common.outbox.model.Outbox;
+import com.examples.demolog.domains.common.outbox.model.OutboxStatus;
+import com.examples.demolog.domains.common.outbox.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxRetentionApplicationService {
+
+    private final OutboxRepository outboxRepository;
+
+    /**
+     * 보존 기간이 지나면 정리하는 상태
+     * - DEAD_LETTERED 는 데드 레터 토픽으로 이관이 끝난 행이므로 발행 완료 행과 같이 정리합니다. (archive 사용 시 이관)
+     */
+    public static final List<OutboxStatus> PURGEABLE_STATUSES =
+            List.of(OutboxStatus.PUBLISHED, OutboxStatus.COALESCED, OutboxStatus.DEAD_LETTERED);
+
+    /**
+     * 보존 기간이 지난 처리 완료 이벤트(status 하나) 한 청크 정리 (배치 작업용)
+     * - 청크마다 별도의 짧은 트랜잭션으로 커밋하여 긴 잠금과 대형 binlog 이벤트를 만들지 않습니다.
+     *
+     * @return 정리한 행 수
+     */
+    @Transactional
+    public int purgeProcessedChunk(OutboxStatus status, LocalDateTime cutoff, int chunkSize, boolean archive) {
+        List<UUID> ids = outboxRepository.claimProcessedBefore(status.name(), cutoff, chunkSize).stream()
+                .map(Outbox::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        if (archive) {
+            outboxRepository.archiveByIdIn(ids, LocalDateTime.now());
+        }
+        outboxRepository.deleteByIdIn(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,207 @@
+package com.examples.demolog.domains.notification.cache;
+
+import com.examples.demolog.domains.notification.config.NotificationRecentCacheProperties;
+import com.examples.demolog.domains.notification.dto.response.NotificationResponse;
+import com.examples.demolog.global.utils.JsonUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 사용자별 최근 알림 Redis 캐시 (최신순, 최대 capacity 건의 NotificationResponse JSON 리스트)
+ * <p>
+ * 알림함을 열면 대부분 첫 페이지만 읽으므로 첫 페이지는 LRANGE 한 번으로 응답하고, 그 뒤 페이지만 DB 에서 조회합니다.
+ * - 적재: 캐시가 없을 때 조회 경로에서 DB 의 최근 capacity 건을 넣습니다. (이미 있으면 덮어쓰지 않음)
+ * - 새 알림: 컨슈머가 커밋 이후 앞에 추가하고 capacity 건으로 자릅니다. 캐시가 없으면 건너뛰고 다음 조회 때 적재되도록 둡니다.
+ * - 갱신: 집계 알림 합치기 / 개별 읽음은 같은 ID 의 항목을 교체하고, 모두 읽음은 목록 전체가 바뀌므로 제거합니다.
+ * - Redis 장애 시 캐시를 건너뛰고 DB 로 응답합니다.
+ * <p>
+ * 적중률은 notification.recent.cache.requests{result=hit|miss} 카운터로 확인합니다.
+ */
+@Slf4j
+@Component
+public class RecentNotificationCache {
+
+    private static final String KEY_PREFIX = "notification:recent:";
+
+    // 캐시가 없을 때만 적재 (ARGV[1] = TTL, 나머지 = 최신순 항목)
+    private static final RedisScript<Long> LOAD_IF_ABSENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('RPUSH', KEYS[1], unpack(ARGV, 2))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 캐시가 있을 때만 앞에 추가 후 자르기 (ARGV[1] = 보관 수, ARGV[2] = TTL, 나머지 = 오래된 것부터)
+    private static final RedisScript<Long> PUSH_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('LPUSH', KEYS[1], unpack(ARGV, 3))
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 같은 알림 ID 를 담은 항목 교체 (ARGV[1] = 알림 ID, ARGV[2] = 새 항목)
+    private static final RedisScript<Long> REPLACE_BY_ID_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('LRANGE', KEYS[1], 0, -1)
+            for i, entry in ipairs(entries) do
+                if string.find(entry, ARGV[1], 1, true) then
+                    redis.call('LSET', KEYS[1], i - 1, ARGV[2])
+                    return 1
+                end
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRecentCacheProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+
+    public RecentNotificationCache(StringRedisTemplate redisTemplate, NotificationRecentCacheProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.hits = Counter.builder("notification.recent.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("notification.recent.cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    public int capacity() {
+        return properties.capacity();
+    }
+
+    /**
+     * 캐시로 응답할 수 있는 첫 페이지 크기인지
+     * - size + 1 건을 읽어 다음 페이지 여부를 판단하므로 보관 수보다 작아야 합니다.
+     */
+    public boolean covers(int size) {
+        return size < properties.capacity();
+    }
+
+    /**
+     * 최신순 size + 1 건 조회 (캐시가 없거나 Redis 장애면 null)
+     * - size 건 이하가 돌아오면 보관 수보다 적은 알림만 있는 사용자이므로 다음 페이지가 없습니다.
+     */
+    public List<NotificationResponse> getLatest(UUID receiverId, int size) {
+        try {
+            List<String> entries = redisTemplate.opsForList().range(keyOf(receiverId), 0, size);
+            if (entries == null || entries.isEmpty()) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entries.stream().map(entry -> JsonUtil.fromJsonStr(entry, NotificationResponse.class)).toList();
+        } catch (Exception e) {
+            misses.increment();
+            log.warn("최근 알림 캐시 조회 실패: receiverId={}", receiverId, e);
+            return null;
+        }
+    }
+
+    /**
+     * DB 에서 읽은 최근 알림 적재 (최신순, 그 사이 다른 요청이 적재했으면 덮어쓰지 않음)
+     */
+    public void load(UUID receiverId, List<NotificationResponse> latest) {
+        if (latest.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(properties.ttl().toMillis()));
+            latest.stream().limit(properties.capacity()).map(JsonUtil::toJsonStr).forEach(args::add);
+            redisTemplate.execute(LOAD_IF_ABSENT_SCRIPT, List.of(keyOf(receiverId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("최근 알림 캐시 적재 실패: receiverId={}", receiverId, e);
+        }
+    }
+
+    /**
+     * 새로 만든 알림을 커밋 이후 수신자별 캐시 앞에 추가 (생성 순서대로)
+     */
+    public void pushAfterCommit(List<NotificationResponse> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<NotificationResponse>> byReceiver = created.stream()
+                .collect(Collectors.groupingBy(NotificationResponse::receiverId));
+        afterCommit(() -> byReceiver.forEach(this::push));
+    }
+
+    /**
+     * 갱신된 알림을 커밋 이후 캐시에서 교체 (캐시 범위 밖의 알림이면 무시)
+     */
+    public void replaceAfterCommit(List<NotificationResponse> updated) {
+        if (updated.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> updated.forEach(this::replace));
+    }
+
+    /**
+     * 커밋 이후 캐시 제거 (다음 조회 때 DB 에서 다시 적재)
+     */
+    public void evictAfterCommit(UUID receiverId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(keyOf(receiverId));
+            } catch (Exception e) {
+                log.warn("최근 알림 캐시 제거 실패: receiverId={}", receiverId, e);
+            }
+        });
+    }
+
+    private void push(UUID receiverId, List<NotificationResponse> created) {
+        try {
+            String[] args = Stream.concat(
+                            Stream.of(String.valueOf(properties.capacity()), String.valueOf(properties.ttl().toMillis())),
+                            created.stream().map(JsonUtil::toJsonStr))
+                    .toArray(String[]::new);
+            redisTemplate.execute(PUSH_IF_EXISTS_SCRIPT, List.of(keyOf(receiverId)), (Object[]) args);
+        } catch (Exception e) {
+            log.warn("최근 알림 캐시 추가 실패: receiverId={}, count={}", receiverId, created.size(), e);
+        }
+    }
+
+    private void replace(NotificationResponse notification) {
+        try {
+            redisTemplate.execute(REPLACE_BY_ID_SCRIPT, List.of(keyOf(notification.receiverId())),
+                    notification.id().toString(), JsonUtil.toJsonStr(notification));
+        } catch (Exception e) {
+            log.warn("최근 알림 캐시 교체 실패: notificationId={}", notification.id(), e);
+        }
+    }
+
+    private String keyOf(UUID receiverId) {
+        return KEY_PREFIX + receiverId;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.examples.demolog.domains.notification.cache;
+
+import com.examples.demolog.domains.notification.config.NotificationUnreadCountProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자별 읽지 않은 알림 수 Redis 카운터
+ * <p>
+ * - 조회: 키가 있으면 GET 한 번 (O(1)), 없으면 호출자가 DB 에서 세어 적재합니다.
+ * - 증감: 키가 있을 때만 반영합니다. 키가 없는데 증가시키면 DB 와 무관한 값이 생기므로 다음 조회 때 DB 에서 적재되도록 둡니다.
+ * - 변경은 DB 트랜잭션 커밋 이후에 반영하여 롤백된 변경이 카운터에 남지 않도록 합니다.
+ * - Redis 장애 시 카운터 반영을 건너뛰고, 어긋난 값은 주기적인 대조(reconcile)에서 정리됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountCache {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    // 키가 있을 때만 증감 (0 미만으로 내려가지 않음), TTL 갱신
+    private static final RedisScript<Long> ADD_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then
+                redis.call('SET', KEYS[1], 0)
+                value = 0
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return value
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationUnreadCountProperties properties;
+
+    /**
+     * 캐시된 카운터 조회 (없거나 Redis 장애면 null)
+     */
+    public Long get(UUID receiverId) {
+        try {
+            String value = redisTemplate.opsForValue().get(keyOf(receiverId));
+            return value == null ? null : Long.parseLong(value);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 캐시 조회 실패: receiverId={}", receiverId, e);
+            return null;
+        }
+    }
+
+    /**
+     * DB 에서 센 값 적재 (그 사이 다른 요청이 적재했으면 덮어쓰지 않음)
+     */
+    public void load(UUID receiverId, long count) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(keyOf(receiverId), String.valueOf(count), properties.ttl());
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 캐시 적재 실패: receiverId={}", receiverId, e);
+        }
+    }
+
+    /**
+     * 수신자별 증감값을 커밋 이후 반영
+     */
+    public void addAfterCommit(Map<UUID, Long> deltas) {
+        afterCommit(() -> deltas.forEach(this::add));
+    }
+
+    /**
+     * 커밋 이후 0 으로 초기화 (모두 읽음)
+     */
+    public void resetAfterCommit(UUID receiverId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForValue().set(keyOf(receiverId), "0", properties.ttl());
+            } catch (Exception e) {
+                log.warn("읽지 않은 알림 수 캐시 초기화 실패: receiverId={}", receiverId, e);
+            }
+        });
+    }
+
+    /**
+     * 카운터 제거 (다음 조회 때 DB 에서 다시 적재)
+     */
+    public void evict(List<UUID> receiverIds) {
+        redisTemplate.delete(receiverIds.stream().map(this::keyOf).toList());
+    }
+
+    public String keyOf(UUID receiverId) {
+        return KEY_PREFIX + receiverId;
+    }
+
+    public UUID receiverIdOf(String key) {
+        return UUID.fromString(key.substring(KEY_PREFIX.length()));
+    }
+
+    public String keyPattern() {
+        return KEY_PREFIX + "*";
+    }
+
+    private void add(UUID receiverId, long delta) {
+        try {
+            redisTemplate.execute(ADD_IF_EXISTS_SCRIPT, List.of(keyOf(receiverId)),
+                    String.valueOf(delta), String.valueOf(properties.ttl().toMillis()));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 캐시 갱신 실패: receiverId={}, delta={}", receiverId, delta, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.examples.demolog.domains.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 좋아요 알림 집계 설정
+ *
+ * @param enabled 집계 사용 여부 (false 면 좋아요마다 POST_LIKED 알림 한 건)
+ * @param window  집계 구간 - 같은 게시물의 읽지 않은 집계 알림에 이 시간 안에 합쳐진 좋아요가 있으면 새 좋아요를 그 알림에 합침
+ *                (합칠 때마다 구간이 다시 시작되는 이동 구간)
+ */
+@ConfigurationProperties(prefix = "notification.aggregation")
+public record NotificationAggregationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1h") Duration window
+) {
+}
@@ -0,0 +1,62 @@
+package com.examples.demolog.domains.notification.config;
+
+import com.examples.demolog.domains.common.kafka.consumer.PartitionPauser;
+import com.examples.demolog.domains.common.kafka.consumer.RecentEventIdFilter;
+import com.examples.demolog.domains.common.kafka.consumer.RetryTopicForwarder;
+import com.examples.demolog.domains.notification.consumer.NotificationEventConsumer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties({
+        NotificationConsumerProperties.class,
+        NotificationRetryProperties.class,
+        NotificationAggregationProperties.class,
+        NotificationUnreadCountProperties.class,
+        NotificationRecentCacheProperties.class,
+        NotificationRetentionProperties.class
+})
+public class NotificationConsumerConfig {
+
+    /**
+     * 알림 컨슈머 그룹 처리용 가상 스레드 실행기
+     * - 그룹 처리는 대부분 DB I/O 대기이므로 플랫폼 스레드를 점유하지 않도록 가상 스레드를 사용합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService notificationConsumerExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-consumer-", 0).factory());
+    }
+
+    /**
+     * 최근 처리한 알림 이벤트 ID 필터 (재전달된 레코드를 DB 조회 없이 건너뜀)
+     */
+    @Bean
+    public RecentEventIdFilter notificationEventIdFilter(NotificationConsumerProperties properties) {
+        return new RecentEventIdFilter(properties.dedupCacheSize());
+    }
+
+    /**
+     * 알림 컨슈머 재시도 토픽 / 데드 레터 토픽 전달기
+     */
+    @Bean
+    public RetryTopicForwarder notificationRetryTopicForwarder(KafkaTemplate<String, String> kafkaTemplate,
+                                                               NotificationRetryProperties properties) {
+        return new RetryTopicForwarder(kafkaTemplate, NotificationEventConsumer.RETRY_TOPICS, properties.delays(),
+                NotificationEventConsumer.DEAD_LETTER_TOPIC, properties.sendTimeout());
+    }
+
+    /**
+     * 알림 재시도 리스너 파티션 일시 정지기 (만기 전 레코드가 있는 파티션만 만기까지 멈춤)
+     */
+    @Bean
+    public PartitionPauser notificationPartitionPauser(KafkaListenerEndpointRegistry registry, TaskScheduler taskScheduler) {
+        return new PartitionPauser(registry, taskScheduler);
+    }
+}
@@ -0,0 +1,22 @@
+package com.examples.demolog.domains.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 알림 컨슈머 설정
+ *
+ * @param parallelism 배치 하나를 나눠 처리할 병렬 그룹 수 (같은 키는 같은 그룹, 그룹 내부는 순차)
+ *                    - 그룹마다 트랜잭션 하나를 사용하므로 DB 커넥션 풀 크기보다 작게 설정
+ * @param nackSleep   재시도 토픽 전달마저 실패했을 때 실패 지점부터 다시 poll 하기 전 대기 시간
+ * @param dedupCacheSize 최근 처리한 이벤트 ID 를 기억할 최대 개수 (메모리 중복 필터)
+ */
+@ConfigurationProperties(prefix = "notification.consumer")
+public record NotificationConsumerProperties(
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("1s") Duration nackSleep,
+        @DefaultValue("100000") int dedupCacheSize
+) {
+}
@@ -0,0 +1,19 @@
+package com.examples.demolog.domains.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 최근 알림 Redis 캐시 설정
+ *
+ * @param capacity 사용자별로 보관할 최근 알림 수 (이보다 작은 첫 페이지 요청만 캐시에서 응답)
+ * @param ttl      캐시 만료 시간 (적재와 커밋 이후 반영이 엇갈려 빠진 알림도 만료 후 DB 에서 다시 적재)
+ */
+@ConfigurationProperties(prefix = "notification.recent-cache")
+public record NotificationRecentCacheProperties(
+        @DefaultValue("50") int capacity,
+        @DefaultValue("10m") Duration ttl
+) {
+}
@@ -0,0 +1,37 @@
+package com.examples.demolog.domains.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 알림 보존 / 월 단위 파티션 관리 설정
+ *
+ * @param enabled         파티션 관리 작업 활성화 여부
+ * @param retentionMonths 이번 달 외에 보존할 지난 달 수 (이보다 오래된 월 파티션은 통째로 DROP)
+ * @param premakeMonths   미리 만들어 둘 다음 달 파티션 수
+ */
+@ConfigurationProperties(prefix = "notification.retention")
+public record NotificationRetentionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("6") int retentionMonths,
+        @DefaultValue("2") int premakeMonths
+) {
+
+    /**
+     * 보존 중인 가장 오래된 월
+     */
+    public YearMonth oldestRetainedMonth(YearMonth currentMonth) {
+        return currentMonth.minusMonths(retentionMonths);
+    }
+
+    /**
+     * 보존 구간 시작 시각 - 알림 조회 조건의 하한으로 사용하여 보존 중인 파티션만 읽도록 합니다.
+     * (삭제 대상이지만 아직 DROP 되지 않은 파티션도 조회에서 제외)
+     */
+    public LocalDateTime retentionStart() {
+        return oldestRetainedMonth(YearMonth.now()).atDay(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,20 @@
+package com.examples.demolog.domains.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 알림 컨슈머 재시도 토픽 설정
+ *
+ * @param delays      재시도 단계별 지연 시간 (단계 수는 재시도 토픽 리스너 수와 같아야 함)
+ * @param sendTimeout 재시도 / 데드 레터 토픽 전송 결과 대기 최대 시간
+ */
+@ConfigurationProperties(prefix = "notification.retry")
+public record NotificationRetryProperties(
+        @DefaultValue({"5s", "30s", "5m"}) List<Duration> delays,
+        @DefaultValue("10s") Duration sendTimeout
+) {
+}
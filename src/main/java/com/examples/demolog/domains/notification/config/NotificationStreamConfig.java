@@ -0,0 +1,40 @@
+package com.examples.demolog.domains.notification.config;
+
+import com.examples.demolog.domains.notification.stream.NotificationPushSubscriber;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(NotificationStreamProperties.class)
+public class NotificationStreamConfig {
+
+    /**
+     * SSE 전송용 가상 스레드 실행기 (느린 클라이언트에 대한 블로킹 쓰기가 플랫폼 스레드를 점유하지 않도록 함)
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService notificationStreamExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-stream-", 0).factory());
+    }
+
+    /**
+     * 노드 간 알림 전파 채널 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer notificationPushListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           NotificationPushSubscriber subscriber,
+                                                                           NotificationStreamProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(new VirtualThreadTaskExecutor("notification-push-"));
+        container.addMessageListener(subscriber, new ChannelTopic(properties.channel()));
+        return container;
+    }
+}
@@ -0,0 +1,21 @@
+package com.examples.demolog.domains.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 알림 실시간 스트림(SSE) 설정
+ *
+ * @param timeout             SSE 연결 유지 시간 (만료되면 클라이언트가 자동 재연결)
+ * @param heartbeatIntervalMs 유휴 연결 유지 및 끊긴 연결 정리를 위한 하트비트 주기 (밀리초)
+ * @param channel             노드 간 알림 전파에 사용할 Redis pub/sub 채널
+ */
+@ConfigurationProperties(prefix = "notification.stream")
+public record NotificationStreamProperties(
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("30000") long heartbeatIntervalMs,
+        @DefaultValue("notification:push") String channel
+) {
+}
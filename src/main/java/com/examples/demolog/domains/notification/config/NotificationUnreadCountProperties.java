@@ -0,0 +1,21 @@
+package com.examples.demolog.domains.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 읽지 않은 알림 수 Redis 카운터 설정
+ *
+ * @param ttl                 카운터 만료 시간 (조회·갱신이 없던 사용자 키는 만료 후 다음 조회 때 DB 에서 다시 적재)
+ * @param reconcileIntervalMs DB 와 카운터를 대조해 어긋난 카운터를 제거하는 주기 (밀리초)
+ * @param reconcileBatchSize  대조 시 한 번에 확인할 카운터 수
+ */
+@ConfigurationProperties(prefix = "notification.unread-count")
+public record NotificationUnreadCountProperties(
+        @DefaultValue("7d") Duration ttl,
+        @DefaultValue("600000") long reconcileIntervalMs,
+        @DefaultValue("500") int reconcileBatchSize
+) {
+}
@@ -1,45 +1,275 @@
 package com.examples.demolog.domains.notification.consumer;
 
-import com.examples.demolog.domains.notification.model.NotificationType;
+import com.examples.demolog.domains.common.kafka.consumer.PartialBatchCommitter;
+import com.examples.demolog.domains.common.kafka.consumer.PartitionPauser;
+import com.examples.demolog.domains.common.kafka.consumer.RecentEventIdFilter;
+import com.examples.demolog.domains.common.kafka.consumer.RetryTopicForwarder;
+import com.examples.demolog.domains.common.kafka.event.EventEnvelope;
+import com.examples.demolog.domains.common.kafka.event.EventHeaders;
+import com.examples.demolog.domains.notification.config.NotificationConsumerProperties;
 import com.examples.demolog.domains.notification.service.NotificationApplicationService;
 import com.examples.demolog.domains.postlike.event.PostLikeEvent;
 import com.examples.demolog.global.utils.JsonUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+
+/**
+ * 알림 이벤트 컨슈머 (배치 리스너)
+ * <p>
+ * poll 한 번에 받은 레코드(최대 spring.kafka.consumer.max-poll-records 건)를 레코드 키(postId) 기준으로 그룹에 나누고,
+ * 그룹마다 가상 스레드에서 병렬 처리합니다.
+ * - 같은 키는 항상 같은 그룹에 속하고 그룹 내부는 수신 순서대로 처리되므로 게시물 단위 순서가 보장됩니다.
+ * - 그룹마다 알림을 하나의 트랜잭션에서 JDBC 배치 INSERT 로 저장합니다.
+ * - 재시도 토픽 리스너와 같은 집계 알림을 동시에 갱신해 버전 충돌이 나면 그 그룹을 곧바로 다시 처리합니다.
+ * - 실패한 그룹의 레코드는 다음 재시도 토픽(post-like.notification.retry-N, 단계별 지연)으로 넘기고 배치 전체를 ack 합니다.
+ *   일시적인 DB 장애가 알림을 잃게 하지 않으면서, 실패한 레코드 뒤의 정상 레코드도 기다리지 않습니다.
+ *   마지막 단계까지 실패하면 데드 레터 토픽(post-like.notification.DLT)에 남습니다.
+ * - 재시도 토픽으로 넘어간 레코드는 같은 게시물의 이후 이벤트보다 늦게 처리될 수 있습니다. (좋아요 알림은 집계되므로 순서 무관)
+ * - 재시도 리스너는 만기 전 레코드가 있는 파티션만 만기 시각까지 일시 정지합니다. (handleRetry)
+ * - 재시도 토픽 전달마저 실패하면 그 그룹 레코드가 속한 파티션만 가장 앞선 실패 오프셋까지 커밋하고 그 위치부터 다시 poll 합니다.
+ *   다른 파티션은 배치 끝까지 커밋하고, 실패 파티션에서 이미 성공한 레코드는 재전달 시 건너뜁니다. (PartialBatchCommitter)
+ * <p>
+ * 재전달된 이벤트는 이벤트 ID 헤더(= 아웃박스 ID)로 걸러냅니다.
+ * 최근 처리한 ID 는 메모리 필터에서 바로 건너뛰고, 그 외에는 저장과 같은 트랜잭션에서
+ * PROCESSED_EVENT 테이블의 (consumer, event_id) 유니크 인덱스로 확인합니다. (ProcessedEventApplicationService)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class NotificationEventConsumer {
+public class NotificationEventConsumer implements ConsumerSeekAware {
+
+    static final String RETRY_TOPIC_PREFIX = "post-like.notification.retry-";
+    public static final List<String> RETRY_TOPICS = List.of(RETRY_TOPIC_PREFIX + "0", RETRY_TOPIC_PREFIX + "1", RETRY_TOPIC_PREFIX + "2");
+    public static final String DEAD_LETTER_TOPIC = "post-like.notification.DLT";
+    static final String RETRY_LISTENER_ID_PREFIX = "notification-retry-";
+
+    // 집계 알림 동시 갱신 충돌 시 그룹을 곧바로 다시 처리할 최대 횟수 (넘으면 재시도 토픽으로)
+    private static final int MAX_CONFLICT_ATTEMPTS = 3;
 
     private final NotificationApplicationService notificationApplicationService;
+    private final NotificationConsumerProperties properties;
+    private final ExecutorService notificationConsumerExecutor;
+    private final RecentEventIdFilter notificationEventIdFilter;
+    private final RetryTopicForwarder notificationRetryTopicForwarder;
+    private final PartitionPauser notificationPartitionPauser;
+    private final PartialBatchCommitter partialBatchCommitter = new PartialBatchCommitter();
 
     @KafkaListener(topics = "post-like", groupId = "demolog-group")
-    public void handlePostLikeEvent(ConsumerRecord<String, String> consumerRecord, Acknowledgment ack) {
-        try {
-            PostLikeEvent event = JsonUtil.fromJsonStr(consumerRecord.value(), PostLikeEvent.class);
+    public void handlePostLikeEvents(List<ConsumerRecord<String, String>> consumerRecords, Acknowledgment ack,
+                                     Consumer<?, ?> consumer) {
+        Set<Integer> unforwardedIndexes = processBatch(consumerRecords);
+        if (unforwardedIndexes.isEmpty()) {
+            ack.acknowledge();
+            return;
+        }
+        partialBatchCommitter.commitPartially(consumerRecords, unforwardedIndexes, consumer, properties.nackSleep());
+    }
 
-            switch (event.eventType()) {
-                case "POST_LIKED" -> {
-                    notificationApplicationService.createNotification(
-                            event.postAuthorId(),
-                            event.actorId(),
-                            NotificationType.POST_LIKED,
-                            event.postId()
-                    );
-                    log.info("알림 생성 완료: type=POST_LIKED, postId={}, receiver={}", event.postId(), event.postAuthorId());
+    @KafkaListener(id = RETRY_LISTENER_ID_PREFIX + "0", topics = RETRY_TOPIC_PREFIX + "0", groupId = "demolog-group")
+    public void handleFirstRetry(List<ConsumerRecord<String, String>> consumerRecords, Acknowledgment ack,
+                                 Consumer<?, ?> consumer) {
+        handleRetry(RETRY_LISTENER_ID_PREFIX + "0", consumerRecords, ack, consumer);
+    }
+
+    @KafkaListener(id = RETRY_LISTENER_ID_PREFIX + "1", topics = RETRY_TOPIC_PREFIX + "1", groupId = "demolog-group")
+    public void handleSecondRetry(List<ConsumerRecord<String, String>> consumerRecords, Acknowledgment ack,
+                                 Consumer<?, ?> consumer) {
+        handleRetry(RETRY_LISTENER_ID_PREFIX + "1", consumerRecords, ack, consumer);
+    }
+
+    @KafkaListener(id = RETRY_LISTENER_ID_PREFIX + "2", topics = RETRY_TOPIC_PREFIX + "2", groupId = "demolog-group")
+    public void handleThirdRetry(List<ConsumerRecord<String, String>> consumerRecords, Acknowledgment ack,
+                                 Consumer<?, ?> consumer) {
+        handleRetry(RETRY_LISTENER_ID_PREFIX + "2", consumerRecords, ack, consumer);
+    }
+
+    /**
+     * 재시도 토픽 처리 (파티션 단위 만기 대기)
+     * - 한 파티션 안에서 만기 시각은 오름차순이므로, 파티션마다 만기 전 레코드를 만나면 그 앞까지만 처리합니다.
+     *   다른 파티션의 만기된 레코드는 그 뒤에 있어도 이번 배치에서 처리합니다.
+     * - 만기 전 레코드가 있는 파티션만 그 위치까지 커밋하고 되돌린 뒤 만기 시각까지 일시 정지합니다. (PartitionPauser)
+     *   ack.nack(index, sleep) 처럼 index 뒤의 모든 파티션을 되돌리거나 컨슈머 전체를 멈추지 않습니다.
+     * - 재시도 토픽 전달까지 실패한 레코드가 있으면 그 파티션은 실패 지점부터 nack-sleep 뒤에 다시 poll 합니다.
+     */
+    private void handleRetry(String listenerId, List<ConsumerRecord<String, String>> consumerRecords, Acknowledgment ack,
+                             Consumer<?, ?> consumer) {
+        Instant now = Instant.now();
+        Map<TopicPartition, ConsumerRecord<String, String>> firstNotDue = new HashMap<>();
+        List<Integer> dueIndexes = new ArrayList<>();
+        Set<Integer> reprocessIndexes = new HashSet<>();
+        for (int i = 0; i < consumerRecords.size(); i++) {
+            ConsumerRecord<String, String> consumerRecord = consumerRecords.get(i);
+            TopicPartition topicPartition = topicPartitionOf(consumerRecord);
+            if (firstNotDue.containsKey(topicPartition) || RetryTopicForwarder.dueAtOf(consumerRecord).isAfter(now)) {
+                firstNotDue.putIfAbsent(topicPartition, consumerRecord);
+                reprocessIndexes.add(i);
+            } else {
+                dueIndexes.add(i);
+            }
+        }
+
+        Set<Integer> unforwardedIndexes = dueIndexes.isEmpty()
+                ? Set.of()
+                : processBatch(dueIndexes.stream().map(consumerRecords::get).toList());
+        if (reprocessIndexes.isEmpty() && unforwardedIndexes.isEmpty()) {
+            ack.acknowledge();
+            return;
+        }
+
+        Set<TopicPartition> unforwardedPartitions = new HashSet<>();
+        for (int index : unforwardedIndexes) {
+            reprocessIndexes.add(dueIndexes.get(index));
+            unforwardedPartitions.add(topicPartitionOf(consumerRecords.get(dueIndexes.get(index))));
+        }
+        partialBatchCommitter.commitPartially(consumerRecords, reprocessIndexes, consumer,
+                unforwardedIndexes.isEmpty() ? Duration.ZERO : properties.nackSleep());
+        firstNotDue.forEach((topicPartition, consumerRecord) -> {
+            // 전달 실패 지점으로 되돌린 파티션은 멈추지 않고 실패 레코드부터 다시 처리
+            if (!unforwardedPartitions.contains(topicPartition)) {
+                notificationPartitionPauser.pauseUntil(listenerId, topicPartition, RetryTopicForwarder.dueAtOf(consumerRecord));
+            }
+        });
+    }
+
+    /**
+     * 배치를 그룹별로 처리하고, 실패한 그룹의 레코드는 다음 재시도 토픽으로 넘깁니다.
+     *
+     * @return 재시도 토픽 전달까지 실패해 다시 poll 해야 하는 레코드 위치 (없으면 빈 집합)
+     */
+    private Set<Integer> processBatch(List<ConsumerRecord<String, String>> consumerRecords) {
+        List<List<Integer>> groups = groupByKey(consumerRecords);
+        List<CompletableFuture<Integer>> futures = groups.stream()
+                .map(group -> CompletableFuture.supplyAsync(() -> processGroup(consumerRecords, group), notificationConsumerExecutor))
+                .toList();
+
+        int created = 0;
+        int forwarded = 0;
+        Set<Integer> unforwardedIndexes = new HashSet<>();
+        for (int i = 0; i < futures.size(); i++) {
+            List<Integer> group = groups.get(i);
+            try {
+                created += futures.get(i).join();
+            } catch (CompletionException e) {
+                // 그룹은 하나의 트랜잭션이므로 그룹의 레코드 전체를 재시도 토픽으로 넘김
+                log.warn("PostLikeEvent 그룹 처리 실패, 재시도 토픽으로 전달: records={}, firstOffset={}",
+                        group.size(), consumerRecords.get(group.getFirst()).offset(), e.getCause());
+                try {
+                    notificationRetryTopicForwarder.forward(group.stream().map(consumerRecords::get).toList(), e.getCause());
+                    forwarded += group.size();
+                } catch (Exception forwardException) {
+                    // 재시도 토픽에도 넘기지 못하면 유실되지 않도록 원래 위치부터 다시 poll
+                    unforwardedIndexes.addAll(group);
+                    log.error("재시도 토픽 전달 실패, 실패 파티션만 실패 지점부터 재처리: firstOffset={}",
+                            consumerRecords.get(group.getFirst()).offset(), forwardException);
                 }
+            }
+        }
+
+        if (!unforwardedIndexes.isEmpty()) {
+            return unforwardedIndexes;
+        }
+        log.info("알림 배치 처리 완료: records={}, groups={}, created={}, forwarded={}",
+                consumerRecords.size(), groups.size(), created, forwarded);
+        return Set.of();
+    }
+
+    private static TopicPartition topicPartitionOf(ConsumerRecord<?, ?> consumerRecord) {
+        return new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        partialBatchCommitter.forget(partitions);
+    }
+
+    // 레코드 키 해시로 그룹을 나누고, 각 그룹에는 수신 순서대로 레코드 위치(index)를 담음
+    private List<List<Integer>> groupByKey(List<ConsumerRecord<String, String>> consumerRecords) {
+        List<List<Integer>> groups = IntStream.range(0, properties.parallelism())
+                .mapToObj(i -> (List<Integer>) new ArrayList<Integer>())
+                .toList();
+        for (int i = 0; i < consumerRecords.size(); i++) {
+            if (partialBatchCommitter.alreadyProcessed(consumerRecords.get(i))) {
+                continue;
+            }
+            groups.get(Math.floorMod(Objects.hashCode(consumerRecords.get(i).key()), properties.parallelism())).add(i);
+        }
+        return groups.stream().filter(group -> !group.isEmpty()).toList();
+    }
+
+    private int processGroup(List<ConsumerRecord<String, String>> consumerRecords, List<Integer> group) {
+        List<EventEnvelope<PostLikeEvent>> liked = new ArrayList<>();
+        Set<UUID> eventIds = new HashSet<>();
+        for (int index : group) {
+            ConsumerRecord<String, String> consumerRecord = consumerRecords.get(index);
+            UUID eventId = EventHeaders.eventIdOf(consumerRecord);
+            if (notificationEventIdFilter.contains(eventId) || (eventId != null && !eventIds.add(eventId))) {
+                log.debug("중복 이벤트 건너뜀: eventId={}, offset={}", eventId, consumerRecord.offset());
+                continue;
+            }
+
+            PostLikeEvent event = deserialize(consumerRecord);
+            if (event == null) {
+                continue;
+            }
+
+            switch (event.eventType()) {
+                case "POST_LIKED" -> liked.add(new EventEnvelope<>(eventId, event));
                 case "POST_UNLIKED" -> log.info("좋아요 해제 이벤트 수신: postId={}, actorId={}", event.postId(), event.actorId());
                 default -> log.warn("알 수 없는 eventType: {}", event.eventType());
             }
+        }
+        int created = createWithConflictRetry(liked);
+        notificationEventIdFilter.addAll(eventIds);
+        return created;
+    }
+
+    // 버전 충돌이면 트랜잭션 전체(처리 완료 표시 포함)가 롤백되었으므로 최신 집계 알림을 다시 읽어 처리
+    private int createWithConflictRetry(List<EventEnvelope<PostLikeEvent>> liked) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return notificationApplicationService.createPostLikedNotifications(liked);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_CONFLICT_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("집계 알림 동시 갱신 충돌, 다시 처리: attempt={}", attempt);
+            }
+        }
+    }
+
+    // 역직렬화할 수 없는 레코드는 재시도해도 실패하므로 곧바로 데드 레터 토픽으로 넘기고 건너뜀 (배치 전체를 실패시키지 않음)
+    private PostLikeEvent deserialize(ConsumerRecord<String, String> consumerRecord) {
+        try {
+            return JsonUtil.fromJsonStr(consumerRecord.value(), PostLikeEvent.class);
         } catch (Exception e) {
-            log.error("PostLikeEvent 처리 실패: {}", consumerRecord.value(), e);
-        } finally {
-            ack.acknowledge();
+            log.error("PostLikeEvent 역직렬화 실패, 데드 레터 토픽으로 전달: partition={}, offset={}, value={}",
+                    consumerRecord.partition(), consumerRecord.offset(), consumerRecord.value(), e);
+            notificationRetryTopicForwarder.forwardToDeadLetter(List.of(consumerRecord), e);
+            return null;
         }
     }
 }
@@ -1,7 +1,9 @@
 package com.examples.demolog.domains.notification.controller;
 
+import com.examples.demolog.domains.notification.dto.response.NotificationCursorResponse;
 import com.examples.demolog.domains.notification.dto.response.NotificationResponse;
 import com.examples.demolog.domains.notification.service.NotificationApplicationService;
+import com.examples.demolog.domains.notification.stream.NotificationEmitterRegistry;
 import com.examples.demolog.global.response.ApiResponse;
 import com.examples.demolog.global.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
@@ -9,9 +11,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -21,6 +25,7 @@ import java.util.UUID;
 public class NotificationController {
 
     private final NotificationApplicationService notificationApplicationService;
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<NotificationResponse>>> getNotifications(
@@ -31,6 +36,32 @@ public class NotificationController {
         return ApiResponse.ok(response);
     }
 
+    /**
+     * 알림함 커서 페이지 조회 (최신순, 페이지 깊이와 무관하게 일정한 비용)
+     * - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor 를 전달합니다.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<NotificationCursorResponse>> getNotificationsByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        NotificationCursorResponse response = notificationApplicationService.getNotificationsByCursor(userDetails.getUserId(), cursor, size);
+        return ApiResponse.ok(response);
+    }
+
+    /**
+     * 실시간 알림 구독 (SSE)
+     * - 연결 직후 "connected" 이벤트로 읽지 않은 알림 수를, 이후 "notification" 이벤트로 새 알림을 전달합니다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        UUID userId = userDetails.getUserId();
+        return notificationEmitterRegistry.subscribe(userId, notificationApplicationService.getUnreadCount(userId));
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<ApiResponse<Long>> getUnreadCount(
             @AuthenticationPrincipal CustomUserDetails userDetails
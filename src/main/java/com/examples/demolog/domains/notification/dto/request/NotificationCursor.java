@@ -0,0 +1,41 @@
+package com.examples.demolog.domains.notification.dto.request;
+
+import com.examples.demolog.domains.notification.exception.NotificationErrorCode;
+import com.examples.demolog.domains.notification.exception.NotificationException;
+import com.examples.demolog.domains.notification.model.Notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 알림함 커서 (마지막으로 받은 알림의 createdAt, id)
+ * - 클라이언트에는 불투명한 Base64URL 문자열로 전달합니다.
+ */
+public record NotificationCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public static NotificationCursor of(Notification notification) {
+        return new NotificationCursor(notification.getCreatedAt(), notification.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            return new NotificationCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    UUID.fromString(raw.substring(delimiterIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new NotificationException(NotificationErrorCode.INVALID_CURSOR);
+        }
+    }
+}
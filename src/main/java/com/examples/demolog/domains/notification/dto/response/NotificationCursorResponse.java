@@ -0,0 +1,17 @@
+package com.examples.demolog.domains.notification.dto.response;
+
+import java.util.List;
+
+/**
+ * 알림함 커서 페이지
+ *
+ * @param notifications 알림 목록 (최신순)
+ * @param nextCursor    다음 페이지 요청에 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext       다음 페이지 존재 여부
+ */
+public record NotificationCursorResponse(
+        List<NotificationResponse> notifications,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -4,6 +4,7 @@ import com.examples.demolog.domains.notification.model.Notification;
 import com.examples.demolog.domains.notification.model.NotificationType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public record NotificationResponse(
@@ -13,18 +14,29 @@ public record NotificationResponse(
         NotificationType type,
         UUID targetId,
         boolean isRead,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        int actorCount,
+        List<UUID> recentActorIds
 ) {
 
     public static NotificationResponse from(Notification notification) {
+        return from(notification, null);
+    }
+
+    /**
+     * 수신자의 읽음 기준 시각을 반영한 응답 (readUpTo 가 null 이면 개별 읽음 여부만 사용)
+     */
+    public static NotificationResponse from(Notification notification, LocalDateTime readUpTo) {
         return new NotificationResponse(
                 notification.getId(),
                 notification.getReceiverId(),
                 notification.getActorId(),
                 notification.getType(),
                 notification.getTargetId(),
-                notification.isRead(),
-                notification.getCreatedAt()
+                notification.isReadAt(readUpTo),
+                notification.getCreatedAt(),
+                notification.getActorCount(),
+                notification.getRecentActorIds()
         );
     }
 }
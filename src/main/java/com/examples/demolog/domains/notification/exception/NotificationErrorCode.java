@@ -9,7 +9,8 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum NotificationErrorCode implements ErrorCode {
     NOT_FOUND(HttpStatus.NOT_FOUND, "NOTIFICATION_NOT_FOUND", "해당 알림을 찾을 수 없습니다."),
-    FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "NOTIFICATION_FORBIDDEN_ACCESS", "해당 알림에 대한 권한이 없습니다.");
+    FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "NOTIFICATION_FORBIDDEN_ACCESS", "해당 알림에 대한 권한이 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "NOTIFICATION_INVALID_CURSOR", "잘못된 알림 커서입니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -2,16 +2,21 @@ package com.examples.demolog.domains.notification.model;
 
 import com.examples.demolog.domains.notification.exception.NotificationErrorCode;
 import com.examples.demolog.domains.notification.exception.NotificationException;
+import com.examples.demolog.global.utils.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "NOTIFICATION", indexes = {
-    @Index(name = "idx_notification_receiver_id", columnList = "receiver_id")
+    @Index(name = "idx_notification_receiver_id_created_at_id", columnList = "receiver_id, created_at, id"),
+    @Index(name = "idx_notification_receiver_id_is_read_created_at", columnList = "receiver_id, is_read, created_at"),
+    @Index(name = "idx_notification_target_id_type_last_acted_at", columnList = "target_id, type, last_acted_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -19,8 +24,11 @@ import java.util.UUID;
 @Builder(access = AccessLevel.PRIVATE)
 public class Notification {
 
+    // 집계 알림에 보관할 최근 행위자 수
+    public static final int MAX_RECENT_ACTORS = 5;
+
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -41,28 +49,74 @@ public class Notification {
     @Column(name = "target_id", nullable = false, columnDefinition = "BINARY(16)")
     private UUID targetId;
 
-    // 읽음 여부
+    // 개별 읽음 여부 (읽음 기준 시각 이전 알림은 이 값과 무관하게 읽음 - isReadAt 참고)
     @Column(nullable = false)
     private boolean isRead;
 
-    // 생성 시간
+    // 생성 시간 (월 단위 RANGE 파티션 키)
+    @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // 집계된 행위자 수 (집계 알림이 아니면 1)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 1")
+    private int actorCount;
+
+    // 최근 행위자 ID (최신순, 최대 MAX_RECENT_ACTORS 명)
+    @Convert(converter = UuidListConverter.class)
+    @Column(length = 200)
+    private List<UUID> recentActorIds;
+
+    // 마지막 행위자가 합쳐진 시각 (집계 구간의 기준 - 합칠 때마다 늦춰짐)
+    @Column(name = "last_acted_at", nullable = false, columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime lastActedAt;
+
+    // 낙관적 잠금 버전 (재시도 리스너가 같은 집계 알림을 동시에 갱신하면 나중 커밋이 실패)
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
+
     public static Notification create(UUID receiverId, UUID actorId, NotificationType type, UUID targetId) {
+        LocalDateTime now = LocalDateTime.now();
         return Notification.builder()
+                .actorCount(1)
+                .recentActorIds(List.of(actorId))
                 .receiverId(receiverId)
                 .actorId(actorId)
                 .type(type)
                 .targetId(targetId)
                 .isRead(false)
-                .createdAt(LocalDateTime.now())
+                .createdAt(now)
+                .lastActedAt(now)
                 .build();
     }
 
+    /**
+     * 집계 알림에 행위자 추가
+     * - 최근 행위자 목록에 이미 있는 사용자(좋아요 취소 후 다시 좋아요 등)는 수를 늘리지 않고 맨 앞으로 옮깁니다.
+     * - 마지막 행위 시각을 늦춰 집계 구간을 지금부터 다시 잽니다.
+     */
+    public void mergeActor(UUID actorId) {
+        List<UUID> recent = new ArrayList<>(recentActorIds);
+        if (!recent.remove(actorId)) {
+            this.actorCount++;
+        }
+        recent.addFirst(actorId);
+        this.recentActorIds = List.copyOf(recent.subList(0, Math.min(recent.size(), MAX_RECENT_ACTORS)));
+        this.actorId = actorId;
+        this.lastActedAt = LocalDateTime.now();
+    }
+
     public void markAsRead() {
         this.isRead = true;
     }
 
+    /**
+     * 읽음 기준 시각(NotificationReadMark)을 반영한 읽음 여부
+     */
+    public boolean isReadAt(LocalDateTime readUpTo) {
+        return isRead || (readUpTo != null && !createdAt.isAfter(readUpTo));
+    }
+
     public boolean isReceiver(UUID userId) {
         return this.receiverId.equals(userId);
     }
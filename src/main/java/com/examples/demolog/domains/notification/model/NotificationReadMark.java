@@ -0,0 +1,31 @@
+package com.examples.demolog.domains.notification.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 사용자별 알림 읽음 기준 시각 (read watermark)
+ * - readUpTo 이전에 생성된 알림은 모두 읽은 것으로 간주합니다.
+ * - "모두 읽음" 은 알림 행을 갱신하지 않고 이 행 하나만 갱신합니다. (NotificationReadMarkRepository.upsert)
+ * - 개별 읽음은 기존처럼 알림 행의 isRead 로 표시합니다.
+ */
+@Entity
+@Table(name = "NOTIFICATION_READ_MARK")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationReadMark {
+
+    // 알림 수신자
+    @Id
+    @Column(name = "receiver_id", columnDefinition = "BINARY(16)")
+    private UUID receiverId;
+
+    // 이 시각 이전(포함)에 생성된 알림은 읽음
+    @Column(name = "read_up_to", nullable = false)
+    private LocalDateTime readUpTo;
+}
@@ -2,5 +2,7 @@ package com.examples.demolog.domains.notification.model;
 
 public enum NotificationType {
     POST_LIKED,
-    POST_COMMENTED
+    POST_COMMENTED,
+    // 같은 게시물 좋아요를 집계 구간 동안 한 행으로 합친 알림 ("N명이 좋아합니다")
+    POST_LIKED_AGGREGATED
 }
@@ -0,0 +1,31 @@
+package com.examples.demolog.domains.notification.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * UUID 목록 ↔ 쉼표 구분 문자열 변환 (최근 행위자 목록 저장용)
+ */
+@Converter
+public class UuidListConverter implements AttributeConverter<List<UUID>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<UUID> attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return null;
+        }
+        return String.join(",", attribute.stream().map(UUID::toString).toList());
+    }
+
+    @Override
+    public List<UUID> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(dbData.split(",")).map(UUID::fromString).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.examples.demolog.domains.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * NOTIFICATION 테이블 월 단위 RANGE 파티션 DDL
+ * <p>
+ * 파티션 이름은 p{yyyyMM} (해당 월 1일 ~ 다음 달 1일 미만) 이고, 마지막은 항상 MAXVALUE 파티션(pmax) 입니다.
+ * 최초 파티셔닝은 db/notification-partitioning.sql 로 한 번 적용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionRepository {
+
+    public static final String MAX_PARTITION = "pmax";
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 월 파티션 목록 (오래된 순, pmax 제외 / 파티셔닝 전이면 빈 목록)
+     */
+    public List<YearMonth> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList("""
+                        SELECT partition_name FROM information_schema.partitions
+                        WHERE table_schema = DATABASE()
+                          AND table_name = 'notification'
+                          AND partition_name IS NOT NULL
+                        ORDER BY partition_ordinal_position
+                        """, String.class).stream()
+                .filter(name -> !MAX_PARTITION.equals(name))
+                .map(name -> YearMonth.parse(name, NAME_FORMAT))
+                .toList();
+    }
+
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.partitions
+                WHERE table_schema = DATABASE()
+                  AND table_name = 'notification'
+                  AND partition_name = ?
+                """, Integer.class, MAX_PARTITION);
+        return count != null && count > 0;
+    }
+
+    /**
+     * pmax 를 쪼개 month 파티션 추가 (pmax 가 비어 있으면 메타데이터 변경만 일어남)
+     */
+    public void addPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE notification REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                + "PARTITION " + nameOf(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    /**
+     * 월 파티션 통째로 삭제 (행 단위 DELETE 없이 파일 삭제)
+     */
+    public void dropPartitions(List<YearMonth> months) {
+        String names = String.join(", ", months.stream().map(NotificationPartitionRepository::nameOf).toList());
+        jdbcTemplate.execute("ALTER TABLE notification DROP PARTITION " + names);
+    }
+
+    public static String nameOf(YearMonth month) {
+        return month.format(NAME_FORMAT);
+    }
+}
@@ -0,0 +1,24 @@
+package com.examples.demolog.domains.notification.repository;
+
+import com.examples.demolog.domains.notification.model.NotificationReadMark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface NotificationReadMarkRepository extends JpaRepository<NotificationReadMark, UUID> {
+
+    /**
+     * 읽음 기준 시각 갱신 (행 하나 INSERT 또는 UPDATE, 기준 시각은 뒤로 가지 않음)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_read_mark (receiver_id, read_up_to)
+            VALUES (:receiverId, :readUpTo)
+            ON DUPLICATE KEY UPDATE read_up_to = GREATEST(read_up_to, VALUES(read_up_to))
+            """, nativeQuery = true)
+    int upsert(@Param("receiverId") UUID receiverId, @Param("readUpTo") LocalDateTime readUpTo);
+}
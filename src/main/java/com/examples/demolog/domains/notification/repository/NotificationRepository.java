@@ -1,22 +1,111 @@
 package com.examples.demolog.domains.notification.repository;
 
 import com.examples.demolog.domains.notification.model.Notification;
+import com.examples.demolog.domains.notification.model.NotificationType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
 
-    Page<Notification> findByReceiverId(UUID receiverId, Pageable pageable);
+    /*
+     * NOTIFICATION 은 created_at 월 단위 RANGE 파티션 테이블입니다. (db/notification-partitioning.sql)
+     * 모든 조회에 보존 구간 시작 시각(since) 이상 조건을 두어 보존 중인 파티션만 읽도록(파티션 프루닝) 합니다.
+     */
 
-    long countByReceiverIdAndIsReadFalse(UUID receiverId);
+    /**
+     * ID 로 단건 조회 - 생성 시각 범위로 읽을 파티션을 좁힘 (PK 가 (id, created_at) 이므로 파티션마다 PK 조회)
+     */
+    Optional<Notification> findByIdAndCreatedAtBetween(UUID id, LocalDateTime from, LocalDateTime to);
 
-    @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiverId = :receiverId AND n.isRead = false")
-    int markAllAsReadByReceiverId(@Param("receiverId") UUID receiverId);
+    Page<Notification> findByReceiverIdAndCreatedAtGreaterThanEqual(UUID receiverId, LocalDateTime since, Pageable pageable);
+
+    long countByReceiverIdAndCreatedAtGreaterThanEqual(UUID receiverId, LocalDateTime since);
+
+    /**
+     * 읽지 않은 알림 수 - 읽음 기준 시각 이후에 생성되었고 개별 읽음 처리되지 않은 알림
+     * (idx_notification_receiver_id_is_read_created_at 인덱스 범위 스캔)
+     */
+    @Query("""
+            SELECT COUNT(n) FROM Notification n
+            LEFT JOIN NotificationReadMark m ON m.receiverId = n.receiverId
+            WHERE n.receiverId = :receiverId
+              AND n.createdAt >= :since
+              AND n.isRead = false
+              AND (m.readUpTo IS NULL OR n.createdAt > m.readUpTo)
+            """)
+    long countUnreadByReceiverId(@Param("receiverId") UUID receiverId, @Param("since") LocalDateTime since);
+
+    /**
+     * 알림함 첫 페이지 (idx_notification_receiver_id_created_at_id 인덱스를 역순으로 limit 건만 읽음)
+     */
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.receiverId = :receiverId
+              AND n.createdAt >= :since
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findFirstPage(@Param("receiverId") UUID receiverId, @Param("since") LocalDateTime since, Limit limit);
+
+    /**
+     * 알림함 다음 페이지 - 커서(createdAt, id) 보다 오래된 알림 (페이지 깊이와 무관하게 일정한 비용)
+     * - 커서 시각이 상한이 되므로 커서 이후 월 파티션은 읽지 않습니다.
+     */
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.receiverId = :receiverId
+              AND n.createdAt >= :since
+              AND n.createdAt <= :createdAt
+              AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findPageAfter(@Param("receiverId") UUID receiverId,
+                                     @Param("since") LocalDateTime since,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") UUID id,
+                                     Limit limit);
+
+    /**
+     * 수신자별 읽지 않은 알림 수 (idx_notification_receiver_id_is_read_created_at 인덱스)
+     */
+    @Query("""
+            SELECT n.receiverId AS receiverId, COUNT(n) AS count
+            FROM Notification n
+            LEFT JOIN NotificationReadMark m ON m.receiverId = n.receiverId
+            WHERE n.receiverId IN :receiverIds
+              AND n.createdAt >= :since
+              AND n.isRead = false
+              AND (m.readUpTo IS NULL OR n.createdAt > m.readUpTo)
+            GROUP BY n.receiverId
+            """)
+    List<ReceiverUnreadCount> countUnreadGroupByReceiverId(@Param("receiverIds") Collection<UUID> receiverIds,
+                                                           @Param("since") LocalDateTime since);
+
+    /**
+     * 집계 구간 안에 행위가 있었던 읽지 않은 집계 알림 조회 (idx_notification_target_id_type_last_acted_at 인덱스)
+     * - 집계 알림은 합쳐질 때마다 마지막 행위 시각이 늦춰지므로 생성 시각은 보존 구간 시작(since)으로만 제한합니다.
+     */
+    @Query("""
+            SELECT n FROM Notification n
+            LEFT JOIN NotificationReadMark m ON m.receiverId = n.receiverId
+            WHERE n.targetId IN :targetIds
+              AND n.type = :type
+              AND n.lastActedAt >= :actedSince
+              AND n.createdAt >= :since
+              AND n.isRead = false
+              AND (m.readUpTo IS NULL OR n.createdAt > m.readUpTo)
+            """)
+    List<Notification> findOpenAggregates(@Param("targetIds") Collection<UUID> targetIds,
+                                          @Param("type") NotificationType type,
+                                          @Param("actedSince") LocalDateTime actedSince,
+                                          @Param("since") LocalDateTime since);
 }
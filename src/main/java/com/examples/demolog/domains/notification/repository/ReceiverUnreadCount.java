@@ -0,0 +1,13 @@
+package com.examples.demolog.domains.notification.repository;
+
+import java.util.UUID;
+
+/**
+ * 수신자별 읽지 않은 알림 수 집계 결과
+ */
+public interface ReceiverUnreadCount {
+
+    UUID getReceiverId();
+
+    long getCount();
+}
@@ -0,0 +1,75 @@
+package com.examples.demolog.domains.notification.scheduler;
+
+import com.examples.demolog.domains.common.lock.ScheduledJobLock;
+import com.examples.demolog.domains.notification.config.NotificationRetentionProperties;
+import com.examples.demolog.domains.notification.repository.NotificationPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 월 파티션 관리 작업
+ * - 다음 premakeMonths 개월 파티션을 미리 만들어 새 알림이 pmax 에 쌓이지 않도록 합니다.
+ * - 보존 기간이 지난 월 파티션은 행 단위 DELETE 대신 DROP PARTITION 으로 한 번에 삭제합니다.
+ *   (삭제된 읽지 않은 알림으로 어긋난 카운터는 읽지 않은 알림 수 대조 작업이 정리)
+ * - 같은 파티션 DDL 이 겹치지 않도록 단일 실행 잠금을 얻은 한 인스턴스에서만 실행합니다.
+ *   앞선 실행에서 반영된 변경은 파티션 목록을 다시 읽어 건너뜁니다.
+ * - 기동 시에는 실행하지 않습니다. (최초 월 파티션은 db/notification-partitioning.sql 이 만듦)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "notification.retention", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationPartitionScheduler {
+
+    private static final String JOB = "notification-partition";
+    // 파티션 DDL 최대 실행 시간보다 길게
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    private final NotificationPartitionRepository notificationPartitionRepository;
+    private final NotificationRetentionProperties properties;
+    private final ScheduledJobLock scheduledJobLock;
+
+    @Scheduled(cron = "${notification.retention.cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        try {
+            if (!scheduledJobLock.runExclusively(JOB, LOCK_TTL, this::maintain)) {
+                log.debug("다른 인스턴스가 알림 파티션 관리 중, 건너뜀");
+            }
+        } catch (Exception e) {
+            log.error("알림 파티션 관리 실패", e);
+        }
+    }
+
+    private void maintain() {
+        List<YearMonth> partitions = notificationPartitionRepository.findMonthlyPartitions();
+        if (!notificationPartitionRepository.isPartitioned() || partitions.isEmpty()) {
+            // pmax 만 있는 상태에서 쪼개면 기존 행 전체를 옮기므로 애플리케이션에서 하지 않음
+            log.warn("NOTIFICATION 월 파티션이 없어 파티션 관리를 건너뜀 (db/notification-partitioning.sql 적용 필요)");
+            return;
+        }
+
+        YearMonth currentMonth = YearMonth.now();
+        List<YearMonth> added = new ArrayList<>();
+        for (YearMonth month = partitions.getLast().plusMonths(1);
+             !month.isAfter(currentMonth.plusMonths(properties.premakeMonths())); month = month.plusMonths(1)) {
+            notificationPartitionRepository.addPartition(month);
+            added.add(month);
+        }
+
+        YearMonth oldestRetained = properties.oldestRetainedMonth(currentMonth);
+        List<YearMonth> expired = partitions.stream().filter(month -> month.isBefore(oldestRetained)).toList();
+        if (!expired.isEmpty()) {
+            notificationPartitionRepository.dropPartitions(expired);
+        }
+
+        log.info("알림 파티션 관리 완료: added={}, dropped={}, oldestRetained={}", added, expired, oldestRetained);
+    }
+}
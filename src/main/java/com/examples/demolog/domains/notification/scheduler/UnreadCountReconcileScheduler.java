@@ -0,0 +1,81 @@
+package com.examples.demolog.domains.notification.scheduler;
+
+import com.examples.demolog.domains.notification.cache.UnreadCountCache;
+import com.examples.demolog.domains.notification.config.NotificationRetentionProperties;
+import com.examples.demolog.domains.notification.config.NotificationUnreadCountProperties;
+import com.examples.demolog.domains.notification.repository.NotificationRepository;
+import com.examples.demolog.domains.notification.repository.ReceiverUnreadCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 읽지 않은 알림 수 카운터 대조 작업
+ * - 캐시된 카운터를 SCAN 으로 나눠 읽고, 같은 수신자들의 DB 값을 한 번의 GROUP BY 로 세어 비교합니다.
+ * - 어긋난 카운터는 값을 덮어쓰지 않고 제거합니다. 대조 도중 반영된 증감과 경합하지 않고, 다음 조회 때 DB 에서 다시 적재됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountReconcileScheduler {
+
+    private final StringRedisTemplate redisTemplate;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCountProperties properties;
+    private final NotificationRetentionProperties retentionProperties;
+
+    @Scheduled(fixedDelayString = "${notification.unread-count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        int checked = 0;
+        int evicted = 0;
+
+        ScanOptions options = ScanOptions.scanOptions().match(unreadCountCache.keyPattern()).count(properties.reconcileBatchSize()).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == properties.reconcileBatchSize() || !cursor.hasNext()) {
+                    checked += keys.size();
+                    evicted += reconcileChunk(keys);
+                    keys.clear();
+                }
+            }
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 대조 실패: checked={}, evicted={}", checked, evicted, e);
+            return;
+        }
+
+        log.info("읽지 않은 알림 수 대조 완료: checked={}, evicted={}", checked, evicted);
+    }
+
+    private int reconcileChunk(List<String> keys) {
+        List<String> cached = redisTemplate.opsForValue().multiGet(keys);
+        List<UUID> receiverIds = keys.stream().map(unreadCountCache::receiverIdOf).toList();
+        Map<UUID, Long> actual = notificationRepository.countUnreadGroupByReceiverId(receiverIds, retentionProperties.retentionStart()).stream()
+                .collect(Collectors.toMap(ReceiverUnreadCount::getReceiverId, ReceiverUnreadCount::getCount));
+
+        List<UUID> mismatched = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String value = cached == null ? null : cached.get(i);
+            if (value != null && Long.parseLong(value) != actual.getOrDefault(receiverIds.get(i), 0L)) {
+                mismatched.add(receiverIds.get(i));
+            }
+        }
+
+        if (!mismatched.isEmpty()) {
+            unreadCountCache.evict(mismatched);
+        }
+        return mismatched.size();
+    }
+}
@@ -1,64 +1,282 @@
 package com.examples.demolog.domains.notification.service;
 
+import com.examples.demolog.domains.common.kafka.event.EventEnvelope;
+import com.examples.demolog.domains.common.kafka.service.ProcessedEventApplicationService;
+import com.examples.demolog.domains.notification.cache.RecentNotificationCache;
+import com.examples.demolog.domains.notification.cache.UnreadCountCache;
+import com.examples.demolog.domains.notification.config.NotificationAggregationProperties;
+import com.examples.demolog.domains.notification.config.NotificationRetentionProperties;
+import com.examples.demolog.domains.notification.dto.request.NotificationCursor;
+import com.examples.demolog.domains.notification.dto.response.NotificationCursorResponse;
 import com.examples.demolog.domains.notification.dto.response.NotificationResponse;
 import com.examples.demolog.domains.notification.exception.NotificationErrorCode;
 import com.examples.demolog.domains.notification.exception.NotificationException;
 import com.examples.demolog.domains.notification.model.Notification;
+import com.examples.demolog.domains.notification.model.NotificationReadMark;
 import com.examples.demolog.domains.notification.model.NotificationType;
+import com.examples.demolog.domains.notification.repository.NotificationReadMarkRepository;
 import com.examples.demolog.domains.notification.repository.NotificationRepository;
+import com.examples.demolog.domains.notification.stream.NotificationPushPublisher;
+import com.examples.demolog.domains.postlike.event.PostLikeEvent;
+import com.examples.demolog.global.utils.UuidV7Generator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationApplicationService {
 
+    private static final String CONSUMER = "notification";
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+    // 알림 생성 시각(created_at)과 UUIDv7 ID 시각의 최대 차이
+    private static final Duration ID_CREATED_AT_SKEW = Duration.ofHours(1);
+
     private final NotificationRepository notificationRepository;
+    private final NotificationReadMarkRepository notificationReadMarkRepository;
+    private final ProcessedEventApplicationService processedEventApplicationService;
+    private final NotificationAggregationProperties aggregationProperties;
+    private final NotificationRetentionProperties retentionProperties;
+    private final UnreadCountCache unreadCountCache;
+    private final RecentNotificationCache recentNotificationCache;
+    private final NotificationPushPublisher notificationPushPublisher;
 
+    /**
+     * 좋아요 알림 일괄 생성 (하나의 트랜잭션에서 JDBC 배치 INSERT / UPDATE)
+     * - 이미 처리한 이벤트 ID 는 건너뜁니다.
+     * - 집계가 켜져 있으면 같은 수신자·게시물의 읽지 않은 집계 알림에 집계 구간 안의 행위가 있을 때 새 행 대신 그 알림에 합칩니다.
+     *   원본 토픽과 재시도 토픽 리스너가 같은 게시물을 동시에 처리할 수 있으므로 합친 행은 버전 조건으로 UPDATE 하며,
+     *   다른 트랜잭션이 먼저 갱신했으면 ObjectOptimisticLockingFailureException 으로 롤백됩니다. (호출자가 다시 조회해 재시도)
+     *
+     * @return 반영한 좋아요 이벤트 수
+     */
     @Transactional
-    public NotificationResponse createNotification(UUID receiverId, UUID actorId, NotificationType type, UUID targetId) {
-        Notification notification = Notification.create(receiverId, actorId, type, targetId);
-        Notification saved = notificationRepository.save(notification);
-        return NotificationResponse.from(saved);
+    public int createPostLikedNotifications(List<EventEnvelope<PostLikeEvent>> envelopes) {
+        if (envelopes.isEmpty()) {
+            return 0;
+        }
+
+        List<PostLikeEvent> events = processedEventApplicationService.filterAndMarkProcessed(CONSUMER, envelopes).stream()
+                .map(EventEnvelope::event)
+                .toList();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Set<Notification> touched = new LinkedHashSet<>();
+        List<Notification> created = aggregationProperties.enabled()
+                ? aggregatePostLikes(events, touched)
+                : notificationRepository.saveAll(events.stream()
+                        .map(event -> Notification.create(event.postAuthorId(), event.actorId(), NotificationType.POST_LIKED, event.postId()))
+                        .toList());
+        List<NotificationResponse> merged = touched.stream()
+                .filter(notification -> !created.contains(notification))
+                .map(NotificationResponse::from)
+                .toList();
+        touched.addAll(created);
+
+        // 새로 만든 알림만 읽지 않은 수에 더함 (기존 집계 알림에 합친 경우는 이미 읽지 않은 상태)
+        unreadCountCache.addAfterCommit(created.stream()
+                .collect(Collectors.groupingBy(Notification::getReceiverId, Collectors.counting())));
+        // 최근 알림 캐시: 새 알림은 앞에 추가, 합친 집계 알림은 교체
+        recentNotificationCache.pushAfterCommit(created.stream().map(NotificationResponse::from).toList());
+        recentNotificationCache.replaceAfterCommit(merged);
+        // 새로 만들거나 갱신한 알림을 실시간 구독자에게 전달
+        notificationPushPublisher.publishAfterCommit(touched.stream().map(NotificationResponse::from).toList());
+        return events.size();
     }
 
+    /**
+     * 알림함 페이지 조회
+     * - 기본 정렬의 첫 페이지는 최근 알림 캐시로 응답하고, 전체 건수는 첫 페이지가 가득 찼을 때만 DB 에서 셉니다.
+     */
     public Page<NotificationResponse> getNotifications(UUID receiverId, Pageable pageable) {
         Pageable pageableWithSort = PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
-                pageable.getSortOr(Sort.by(Sort.Direction.DESC, "createdAt"))
+                pageable.getSortOr(LATEST_FIRST)
         );
-        return notificationRepository.findByReceiverId(receiverId, pageableWithSort)
-                .map(NotificationResponse::from);
+        if (pageable.getPageNumber() == 0 && pageableWithSort.getSort().equals(LATEST_FIRST)) {
+            List<NotificationResponse> latest = findLatest(receiverId, pageable.getPageSize());
+            if (latest != null) {
+                List<NotificationResponse> content = latest.subList(0, Math.min(latest.size(), pageable.getPageSize()));
+                return PageableExecutionUtils.getPage(content, pageableWithSort, () -> notificationRepository.countByReceiverIdAndCreatedAtGreaterThanEqual(receiverId, retentionProperties.retentionStart()));
+            }
+        }
+
+        LocalDateTime readUpTo = findReadUpTo(receiverId);
+        return notificationRepository.findByReceiverIdAndCreatedAtGreaterThanEqual(receiverId, retentionProperties.retentionStart(), pageableWithSort)
+                .map(notification -> NotificationResponse.from(notification, readUpTo));
+    }
+
+    /**
+     * 알림함 커서 페이지 조회 (count 쿼리 없음, size + 1 건을 읽어 다음 페이지 여부 판단)
+     */
+    public NotificationCursorResponse getNotificationsByCursor(UUID receiverId, String cursor, int requestedSize) {
+        int size = Math.clamp(requestedSize, 1, MAX_CURSOR_PAGE_SIZE);
+        if (cursor == null || cursor.isBlank()) {
+            List<NotificationResponse> latest = findLatest(receiverId, size);
+            if (latest != null) {
+                boolean hasNext = latest.size() > size;
+                List<NotificationResponse> page = hasNext ? latest.subList(0, size) : latest;
+                String nextCursor = hasNext ? new NotificationCursor(page.getLast().createdAt(), page.getLast().id()).encode() : null;
+                return new NotificationCursorResponse(page, nextCursor, hasNext);
+            }
+        }
+
+        Limit limit = Limit.of(size + 1);
+        List<Notification> fetched;
+        if (cursor == null || cursor.isBlank()) {
+            fetched = notificationRepository.findFirstPage(receiverId, retentionProperties.retentionStart(), limit);
+        } else {
+            NotificationCursor decoded = NotificationCursor.decode(cursor);
+            fetched = notificationRepository.findPageAfter(receiverId, retentionProperties.retentionStart(), decoded.createdAt(), decoded.id(), limit);
+        }
+
+        boolean hasNext = fetched.size() > size;
+        List<Notification> page = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? NotificationCursor.of(page.getLast()).encode() : null;
+        LocalDateTime readUpTo = findReadUpTo(receiverId);
+        return new NotificationCursorResponse(
+                page.stream().map(notification -> NotificationResponse.from(notification, readUpTo)).toList(), nextCursor, hasNext);
     }
 
+    /**
+     * 읽지 않은 알림 수 (Redis 카운터, 없으면 DB 에서 세어 적재)
+     */
     public long getUnreadCount(UUID receiverId) {
-        return notificationRepository.countByReceiverIdAndIsReadFalse(receiverId);
+        Long cached = unreadCountCache.get(receiverId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long count = notificationRepository.countUnreadByReceiverId(receiverId, retentionProperties.retentionStart());
+        unreadCountCache.load(receiverId, count);
+        return count;
     }
 
     @Transactional
     public NotificationResponse markAsRead(UUID notificationId, UUID userId) {
         Notification notification = findNotificationById(notificationId);
         notification.validateReceiverOrThrow(userId);
-        notification.markAsRead();
-        return NotificationResponse.from(notification);
+
+        LocalDateTime readUpTo = findReadUpTo(userId);
+        if (!notification.isReadAt(readUpTo)) {
+            notification.markAsRead();
+            unreadCountCache.addAfterCommit(Map.of(userId, -1L));
+            recentNotificationCache.replaceAfterCommit(List.of(NotificationResponse.from(notification, readUpTo)));
+        }
+        return NotificationResponse.from(notification, readUpTo);
     }
 
+    /**
+     * 모두 읽음 - 알림 행을 갱신하지 않고 읽음 기준 시각 행 하나만 갱신
+     */
     @Transactional
     public void markAllAsRead(UUID receiverId) {
-        notificationRepository.markAllAsReadByReceiverId(receiverId);
+        notificationReadMarkRepository.upsert(receiverId, LocalDateTime.now());
+        unreadCountCache.resetAfterCommit(receiverId);
+        recentNotificationCache.evictAfterCommit(receiverId);
+    }
+
+    // 집계 구간 안의 집계 알림을 한 번에 조회해 합치고, 없는 것만 새로 저장 (합친 행은 변경 감지로 버전 조건 UPDATE)
+    private List<Notification> aggregatePostLikes(List<PostLikeEvent> events, Set<Notification> touched) {
+        Set<UUID> targetIds = events.stream().map(PostLikeEvent::postId).collect(Collectors.toSet());
+        LocalDateTime actedSince = LocalDateTime.now().minus(aggregationProperties.window());
+
+        Map<AggregateKey, Notification> aggregates = new HashMap<>();
+        notificationRepository.findOpenAggregates(targetIds, NotificationType.POST_LIKED_AGGREGATED, actedSince,
+                        retentionProperties.retentionStart())
+                .forEach(notification -> aggregates.merge(AggregateKey.of(notification), notification,
+                        (a, b) -> a.getLastActedAt().isAfter(b.getLastActedAt()) ? a : b));
+
+        List<Notification> created = new ArrayList<>();
+        for (PostLikeEvent event : events) {
+            AggregateKey key = new AggregateKey(event.postAuthorId(), event.postId());
+            Notification aggregate = aggregates.get(key);
+            if (aggregate != null) {
+                aggregate.mergeActor(event.actorId());
+                touched.add(aggregate);
+                continue;
+            }
+
+            aggregate = Notification.create(event.postAuthorId(), event.actorId(), NotificationType.POST_LIKED_AGGREGATED, event.postId());
+            aggregates.put(key, aggregate);
+            created.add(aggregate);
+        }
+        return notificationRepository.saveAll(created);
+    }
+
+    private record AggregateKey(UUID receiverId, UUID targetId) {
+        static AggregateKey of(Notification notification) {
+            return new AggregateKey(notification.getReceiverId(), notification.getTargetId());
+        }
+    }
+
+    /**
+     * 최근 알림 캐시에서 최신순 size + 1 건 조회 (캐시가 없으면 DB 의 최근 알림을 적재)
+     *
+     * @return 캐시로 응답할 수 없는 크기면 null
+     */
+    private List<NotificationResponse> findLatest(UUID receiverId, int size) {
+        if (!recentNotificationCache.covers(size)) {
+            return null;
+        }
+        List<NotificationResponse> cached = recentNotificationCache.getLatest(receiverId, size);
+        if (cached != null) {
+            return cached;
+        }
+
+        LocalDateTime readUpTo = findReadUpTo(receiverId);
+        List<NotificationResponse> latest = notificationRepository.findFirstPage(receiverId, retentionProperties.retentionStart(),
+                        Limit.of(recentNotificationCache.capacity())).stream()
+                .map(notification -> NotificationResponse.from(notification, readUpTo))
+                .toList();
+        recentNotificationCache.load(receiverId, latest);
+        return latest.subList(0, Math.min(latest.size(), size + 1));
+    }
+
+    private LocalDateTime findReadUpTo(UUID receiverId) {
+        return notificationReadMarkRepository.findById(receiverId)
+                .map(NotificationReadMark::getReadUpTo)
+                .orElse(null);
     }
 
+    /**
+     * 알림 단건 조회 (보존 중인 파티션 중 생성 시각이 있을 수 있는 파티션만 읽음)
+     * - UUIDv7 ID 는 생성 시각 직후 같은 트랜잭션에서 만들어지므로 ID 의 시각 전후로 범위를 좁힙니다.
+     * - 그 외 ID(UUIDv7 도입 전 알림)는 보존 구간 전체에서 찾습니다.
+     */
     private Notification findNotificationById(UUID notificationId) {
-        return notificationRepository.findById(notificationId)
+        LocalDateTime retentionStart = retentionProperties.retentionStart();
+        LocalDateTime idTime = UuidV7Generator.timestampOf(notificationId)
+                .map(timestamp -> LocalDateTime.ofInstant(timestamp, ZoneId.systemDefault()))
+                .orElse(null);
+        LocalDateTime from = idTime == null || idTime.minus(ID_CREATED_AT_SKEW).isBefore(retentionStart)
+                ? retentionStart
+                : idTime.minus(ID_CREATED_AT_SKEW);
+        LocalDateTime to = (idTime == null ? LocalDateTime.now() : idTime).plus(ID_CREATED_AT_SKEW);
+        return notificationRepository.findByIdAndCreatedAtBetween(notificationId, from, to)
                 .orElseThrow(() -> new NotificationException(NotificationErrorCode.NOT_FOUND));
     }
 }
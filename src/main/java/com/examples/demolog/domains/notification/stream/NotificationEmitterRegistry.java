@@ -0,0 +1,100 @@
+package com.examples.demolog.domains.notification.stream;
+
+import com.examples.demolog.domains.notification.config.NotificationStreamProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 이 노드에 연결된 SSE 구독자 목록
+ * <p>
+ * SseEmitter 는 비동기 요청으로 유지되므로 유휴 연결은 스레드를 점유하지 않습니다.
+ * 전송(블로킹 쓰기)만 가상 스레드에서 실행하여 느린 클라이언트가 다른 구독자나 pub/sub 수신 스레드를 막지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationEmitterRegistry {
+
+    private final Map<UUID, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final NotificationStreamProperties properties;
+    private final ExecutorService notificationStreamExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("notification.stream.connections", this, NotificationEmitterRegistry::connectionCount)
+                .description("이 노드에 연결된 알림 SSE 구독 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록 (사용자당 여러 탭/기기 연결 허용)
+     */
+    public SseEmitter subscribe(UUID userId, Object initialData) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        emitters.computeIfAbsent(userId, key -> new CopyOnWriteArraySet<>()).add(emitter);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(error -> remove(userId, emitter));
+
+        send(userId, emitter, SseEmitter.event().name("connected").data(initialData));
+        return emitter;
+    }
+
+    /**
+     * 이 노드에 연결된 사용자의 모든 구독자에게 전송
+     */
+    public void sendLocal(UUID userId, String eventName, Object data) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        userEmitters.forEach(emitter ->
+                notificationStreamExecutor.execute(() -> send(userId, emitter, SseEmitter.event().name(eventName).data(data))));
+    }
+
+    /**
+     * 하트비트 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> userEmitters.forEach(emitter ->
+                notificationStreamExecutor.execute(() -> send(userId, emitter, SseEmitter.event().comment("heartbeat")))));
+    }
+
+    public int connectionCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void send(UUID userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 연결 정리: userId={}", userId);
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(UUID userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
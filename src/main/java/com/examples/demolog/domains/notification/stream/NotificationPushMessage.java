@@ -0,0 +1,14 @@
+package com.examples.demolog.domains.notification.stream;
+
+import com.examples.demolog.domains.notification.dto.response.NotificationResponse;
+
+import java.util.UUID;
+
+/**
+ * 노드 간 Redis pub/sub 으로 전파되는 알림 푸시 메시지
+ */
+public record NotificationPushMessage(
+        UUID receiverId,
+        NotificationResponse notification
+) {
+}
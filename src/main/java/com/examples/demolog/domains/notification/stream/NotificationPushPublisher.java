@@ -0,0 +1,54 @@
+package com.examples.demolog.domains.notification.stream;
+
+import com.examples.demolog.domains.notification.config.NotificationStreamProperties;
+import com.examples.demolog.domains.notification.dto.response.NotificationResponse;
+import com.examples.demolog.global.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 저장된 알림을 Redis pub/sub 채널로 발행 (구독자가 연결된 노드가 SSE 로 전달)
+ * - DB 커밋 이후에 발행하여 롤백된 알림이 전달되지 않도록 합니다.
+ * - pub/sub 은 최선 노력 전달이므로 유실된 알림은 클라이언트가 재연결 시 목록 조회로 보완합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationStreamProperties properties;
+
+    public void publishAfterCommit(List<NotificationResponse> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(notifications);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(notifications);
+            }
+        });
+    }
+
+    private void publish(List<NotificationResponse> notifications) {
+        for (NotificationResponse notification : notifications) {
+            try {
+                String message = JsonUtil.toJsonStr(new NotificationPushMessage(notification.receiverId(), notification));
+                redisTemplate.convertAndSend(properties.channel(), message);
+            } catch (Exception e) {
+                log.warn("알림 푸시 발행 실패: notificationId={}", notification.id(), e);
+            }
+        }
+    }
+}
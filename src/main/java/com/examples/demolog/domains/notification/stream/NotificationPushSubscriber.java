@@ -0,0 +1,31 @@
+package com.examples.demolog.domains.notification.stream;
+
+import com.examples.demolog.global.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub 으로 수신한 알림을 이 노드에 연결된 구독자에게 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushSubscriber implements MessageListener {
+
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationPushMessage push = JsonUtil.fromJsonStr(new String(message.getBody(), StandardCharsets.UTF_8), NotificationPushMessage.class);
+            notificationEmitterRegistry.sendLocal(push.receiverId(), "notification", push.notification());
+        } catch (Exception e) {
+            log.warn("알림 푸시 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.examples.demolog.domains.post.cache;
+
+import com.examples.demolog.domains.post.config.PostFeedProperties;
+import com.examples.demolog.domains.post.repository.PostLikeCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시물 좋아요 순위 Redis ZSET (member = postId, score = 좋아요 수)
+ * <p>
+ * - 점수는 증감하지 않고 MySQL like_count 값으로 덮어씁니다. 이벤트가 중복·역순으로 와도 결과가 같습니다.
+ * - 좋아요 수가 같으면 ZREVRANGE 가 member(게시물 ID 문자열)를 역순 정렬합니다.
+ *   UUIDv7 ID 끼리는 최신 게시물이 먼저지만, UUIDv7 도입 전 게시물(UUIDv1)은 문자열 순서가 작성 순서와 달라
+ *   MySQL 피드(like_count DESC, created_at DESC)와 동점 순서가 다를 수 있습니다. (페이지 간 순서는 일정)
+ * - 재구축은 임시 키에 모두 채운 뒤 RENAME 으로 교체하므로 조회 중에 빈 순위가 보이지 않습니다.
+ *   임시 키는 인스턴스 간에 공유하므로 재구축 잠금을 얻은 한 곳에서만 재구축합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLeaderboard {
+
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String REBUILD_LOCK_SUFFIX = ":rebuild-lock";
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostFeedProperties properties;
+
+    public long size() {
+        Long size = redisTemplate.opsForZSet().zCard(properties.leaderboardKey());
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 순위 구간 조회 (좋아요 수 내림차순)
+     */
+    public List<UUID> range(long offset, int limit) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(properties.leaderboardKey(), offset, offset + limit - 1);
+        return members == null ? List.of() : members.stream().map(UUID::fromString).toList();
+    }
+
+    /**
+     * MySQL 에서 읽은 좋아요 수로 점수 갱신
+     */
+    public void updateScores(Collection<PostLikeCount> likeCounts) {
+        if (likeCounts.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().add(properties.leaderboardKey(), toTuples(likeCounts));
+    }
+
+    public void remove(Collection<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(properties.leaderboardKey(), postIds.stream().map(UUID::toString).toArray());
+    }
+
+    /**
+     * 새 게시물을 커밋 이후 0 점으로 추가 (이미 있으면 점수 유지)
+     */
+    public void addAfterCommit(UUID postId) {
+        afterCommit(() -> redisTemplate.opsForZSet().addIfAbsent(properties.leaderboardKey(), postId.toString(), 0));
+    }
+
+    /**
+     * 삭제된 게시물을 커밋 이후 순위에서 제거
+     */
+    public void removeAfterCommit(UUID postId) {
+        afterCommit(() -> remove(List.of(postId)));
+    }
+
+    /**
+     * 재구축용 임시 키에 점수 추가
+     */
+    public void addToRebuild(Collection<PostLikeCount> likeCounts) {
+        if (likeCounts.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().add(rebuildKey(), toTuples(likeCounts));
+    }
+
+    /**
+     * 재구축 잠금 획득 (ttl 이 지나면 자동 해제 - 재구축 중 인스턴스가 죽어도 다음 기동에서 다시 시도)
+     */
+    public boolean tryLockRebuild(Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(rebuildKey() + REBUILD_LOCK_SUFFIX, "1", ttl));
+    }
+
+    public void unlockRebuild() {
+        redisTemplate.delete(rebuildKey() + REBUILD_LOCK_SUFFIX);
+    }
+
+    public void clearRebuild() {
+        redisTemplate.delete(rebuildKey());
+    }
+
+    /**
+     * 임시 키로 순위 교체 (게시물이 하나도 없으면 순위 제거)
+     */
+    public void swapRebuild() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(rebuildKey()))) {
+            redisTemplate.rename(rebuildKey(), properties.leaderboardKey());
+        } else {
+            redisTemplate.delete(properties.leaderboardKey());
+        }
+    }
+
+    private String rebuildKey() {
+        return properties.leaderboardKey() + REBUILD_SUFFIX;
+    }
+
+    private Set<TypedTuple<String>> toTuples(Collection<PostLikeCount> likeCounts) {
+        return likeCounts.stream()
+                .map(likeCount -> ZSetOperations.TypedTuple.of(likeCount.getId().toString(), (double) likeCount.getLikeCount()))
+                .collect(Collectors.toSet());
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("게시물 좋아요 순위 갱신 실패", e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+}
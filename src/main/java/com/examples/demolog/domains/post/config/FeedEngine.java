@@ -0,0 +1,13 @@
+package com.examples.demolog.domains.post.config;
+
+/**
+ * 인기 게시물 피드 조회 방식
+ */
+public enum FeedEngine {
+
+    // MySQL like_count 인덱스 순서 조회
+    DATABASE,
+
+    // Redis ZSET(postId → 좋아요 수) 순위 조회 후 게시물 행 일괄 조회
+    LEADERBOARD
+}
@@ -0,0 +1,13 @@
+package com.examples.demolog.domains.post.config;
+
+/**
+ * 인기 게시물 피드 정렬
+ */
+public enum FeedSort {
+
+    // 좋아요 수 내림차순 (post.feed.engine 에 따라 MySQL 또는 Redis 순위)
+    LIKES,
+
+    // 시간 감쇠 인기 점수 내림차순 (백그라운드에서 갱신한 hot_score 인덱스)
+    HOT
+}
@@ -0,0 +1,9 @@
+package com.examples.demolog.domains.post.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PostFeedProperties.class)
+public class PostFeedConfig {
+}
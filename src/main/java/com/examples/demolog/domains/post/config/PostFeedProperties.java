@@ -0,0 +1,31 @@
+package com.examples.demolog.domains.post.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 인기 게시물 피드 설정
+ *
+ * @param engine           피드 조회 방식
+ * @param leaderboardKey   좋아요 순위 ZSET 키
+ * @param rebuildBatchSize 순위 재구축 시 MySQL 에서 한 번에 읽을 게시물 수
+ * @param hotScoreRefreshIntervalMs 인기 점수 갱신 주기 (밀리초)
+ * @param hotScoreLookback 직전 갱신 시각이 Redis 에 없을 때 다시 계산할 좋아요 변경 구간
+ * @param hotScoreBatchSize 인기 점수 갱신 트랜잭션 1회에 다시 계산할 게시물 수
+ */
+@ConfigurationProperties(prefix = "post.feed")
+public record PostFeedProperties(
+        @DefaultValue("DATABASE") FeedEngine engine,
+        @DefaultValue("post:leaderboard:likes") String leaderboardKey,
+        @DefaultValue("1000") int rebuildBatchSize,
+        @DefaultValue("60000") long hotScoreRefreshIntervalMs,
+        @DefaultValue("1h") Duration hotScoreLookback,
+        @DefaultValue("500") int hotScoreBatchSize
+) {
+
+    public boolean leaderboardEnabled() {
+        return engine == FeedEngine.LEADERBOARD;
+    }
+}
@@ -0,0 +1,52 @@
+package com.examples.demolog.domains.post.consumer;
+
+import com.examples.demolog.domains.post.service.PostLeaderboardApplicationService;
+import com.examples.demolog.domains.postlike.event.PostLikeEvent;
+import com.examples.demolog.global.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 게시물 좋아요 순위 컨슈머 (배치 리스너, 알림 컨슈머와 별도 컨슈머 그룹)
+ * <p>
+ * 배치에 등장한 게시물 ID 를 모아 MySQL like_count 를 한 번에 읽고 순위 점수를 덮어씁니다.
+ * 좋아요 / 취소 구분 없이 현재 값으로 맞추므로 중복·역순 전달이나 취소 이벤트의 중복 발행에도 점수가 어긋나지 않습니다.
+ * 처리에 실패하면 예외를 던져 컨테이너 에러 핸들러가 배치를 다시 처리하도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "post.feed", name = "engine", havingValue = "leaderboard")
+public class PostLeaderboardEventConsumer {
+
+    private final PostLeaderboardApplicationService postLeaderboardApplicationService;
+
+    @KafkaListener(topics = "post-like", groupId = "demolog-leaderboard-group")
+    public void handlePostLikeEvents(List<ConsumerRecord<String, String>> consumerRecords, Acknowledgment ack) {
+        Set<UUID> postIds = new LinkedHashSet<>();
+        for (ConsumerRecord<String, String> consumerRecord : consumerRecords) {
+            try {
+                postIds.add(JsonUtil.fromJsonStr(consumerRecord.value(), PostLikeEvent.class).postId());
+            } catch (Exception e) {
+                // 역직렬화할 수 없는 레코드는 재처리해도 실패하므로 건너뜀
+                log.error("PostLikeEvent 역직렬화 실패: partition={}, offset={}", consumerRecord.partition(), consumerRecord.offset(), e);
+            }
+        }
+
+        if (!postIds.isEmpty()) {
+            postLeaderboardApplicationService.refreshScores(postIds);
+        }
+        ack.acknowledge();
+        log.debug("게시물 좋아요 순위 갱신: records={}, posts={}", consumerRecords.size(), postIds.size());
+    }
+}
@@ -0,0 +1,27 @@
+package com.examples.demolog.domains.post.controller;
+
+import com.examples.demolog.domains.post.service.PostLeaderboardApplicationService;
+import com.examples.demolog.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/posts")
+@RequiredArgsConstructor
+public class PostAdminController {
+
+    private final PostLeaderboardApplicationService postLeaderboardApplicationService;
+
+    /**
+     * 좋아요 순위 ZSET 재구축 (MySQL 게시물 like_count 기준, ROLE_ADMIN - admin.emails)
+     * - 임시 키에 채운 뒤 RENAME 으로 교체하므로 재구축 중에도 기존 순위로 응답합니다.
+     */
+    @PostMapping("/feed/leaderboard/rebuild")
+    public ResponseEntity<ApiResponse<Long>> rebuildLeaderboard() {
+        long rebuilt = postLeaderboardApplicationService.rebuildNow();
+        return ApiResponse.ok(rebuilt);
+    }
+}
@@ -1,6 +1,7 @@
 package com.examples.demolog.domains.post.controller;
 
 import com.examples.demolog.domains.common.idempotency.annotation.Idempotent;
+import com.examples.demolog.domains.post.config.FeedSort;
 import com.examples.demolog.domains.post.dto.request.CreatePostRequest;
 import com.examples.demolog.domains.post.dto.request.UpdatePostRequest;
 import com.examples.demolog.domains.post.dto.response.PostFeedResponse;
@@ -65,13 +66,14 @@ public class PostController {
     }
 
     /**
-     * 인기 게시물 피드 조회 (좋아요 수 기반 정렬)
+     * 인기 게시물 피드 조회 (sort=LIKES: 좋아요 수, sort=HOT: 시간 감쇠 인기 점수)
      */
     @GetMapping("/feed")
     public ResponseEntity<ApiResponse<Page<PostFeedResponse>>> getFeedPosts(
+            @RequestParam(defaultValue = "LIKES") FeedSort sort,
             @PageableDefault(size = 20) Pageable pageable
     ) {
-        Page<PostFeedResponse> response = postApplicationService.getFeedPosts(pageable);
+        Page<PostFeedResponse> response = postApplicationService.getFeedPosts(pageable, sort);
         return ApiResponse.ok(response);
     }
 
@@ -1,5 +1,7 @@
 package com.examples.demolog.domains.post.dto.response;
 
+import com.examples.demolog.domains.post.model.Post;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -12,4 +14,16 @@ public record PostFeedResponse(
         LocalDateTime updatedAt,
         long likeCount
 ) {
+
+    public static PostFeedResponse from(Post post) {
+        return new PostFeedResponse(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getAuthorId(),
+                post.getCreatedAt(),
+                post.getUpdatedAt(),
+                post.getLikeCount()
+        );
+    }
 }
@@ -9,7 +9,8 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum PostErrorCode implements ErrorCode {
     NOT_FOUND(HttpStatus.NOT_FOUND, "POST_NOT_FOUND", "해당 게시글을 찾을 수 없습니다."),
-    FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "FORBIDDEN_ACCESS", "해당 게시글에 대한 권한이 없습니다.");
+    FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "FORBIDDEN_ACCESS", "해당 게시글에 대한 권한이 없습니다."),
+    LEADERBOARD_REBUILD_IN_PROGRESS(HttpStatus.CONFLICT, "LEADERBOARD_REBUILD_IN_PROGRESS", "좋아요 순위를 재구축하고 있습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,28 @@
+package com.examples.demolog.domains.post.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 시간 감쇠 인기 점수 (Reddit hot 방식)
+ * <p>
+ * score = log10(1 + 좋아요 수) + (작성 시각 - 기준 시각) / DECAY_SECONDS
+ * - 작성 시각이 DECAY_SECONDS 만큼 늦은 게시물은 좋아요가 10배 적어도 같은 점수가 됩니다. (오래된 게시물이 계속 상위를 차지하지 않음)
+ * - 시간 항이 작성 시각에만 의존하므로 좋아요 수가 바뀔 때만 다시 계산하면 되고, 시간이 흐른다고 모든 행을 갱신할 필요가 없습니다.
+ */
+public final class HotScore {
+
+    // 좋아요 10배 = 12.5시간
+    public static final long DECAY_SECONDS = 45_000;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private HotScore() {
+    }
+
+    public static double of(long likeCount, LocalDateTime createdAt) {
+        double order = Math.log10(1 + Math.max(likeCount, 0));
+        double age = (double) Duration.between(EPOCH, createdAt).toSeconds() / DECAY_SECONDS;
+        return order + age;
+    }
+}
@@ -2,23 +2,30 @@ package com.examples.demolog.domains.post.model;
 
 import com.examples.demolog.domains.post.exception.PostErrorCode;
 import com.examples.demolog.domains.post.exception.PostException;
+import com.examples.demolog.global.utils.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "POST")
+@Table(name = "POST", indexes = {
+    @Index(name = "idx_post_like_count_created_at", columnList = "like_count DESC, created_at DESC"),
+    @Index(name = "idx_post_hot_score_created_at", columnList = "hot_score DESC, created_at DESC"),
+    @Index(name = "idx_post_like_updated_at_id", columnList = "like_updated_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder(access = AccessLevel.PRIVATE)
+@DynamicUpdate // 변경된 컬럼만 UPDATE (게시물 수정과 인기 점수 갱신이 서로의 컬럼을 덮어쓰지 않도록)
 public class Post {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -35,6 +42,19 @@ public class Post {
 
     private LocalDateTime updatedAt;
 
+    // 좋아요 수 (좋아요/취소 시 같은 트랜잭션에서 원자적으로 증감 - PostRepository 참고)
+    // 게시물 수정 시 변경 감지 UPDATE 가 읽어 둔 값으로 덮어쓰지 않도록 updatable = false
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long likeCount;
+
+    // 좋아요 수가 마지막으로 바뀐 시각 (인기 점수 갱신 작업이 이 시각 이후 바뀐 게시물만 다시 계산)
+    @Column(name = "like_updated_at", nullable = false, updatable = false, columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime likeUpdatedAt;
+
+    // 시간 감쇠 인기 점수 (HotScore, 좋아요 수가 바뀐 게시물만 백그라운드에서 다시 계산)
+    @Column(name = "hot_score", nullable = false, columnDefinition = "DOUBLE DEFAULT 0")
+    private double hotScore;
+
     public static Post create(String title, String content, UUID authorId) {
         LocalDateTime now = LocalDateTime.now();
         return Post.builder()
@@ -43,6 +63,9 @@ public class Post {
                 .authorId(authorId)
                 .createdAt(now)
                 .updatedAt(now)
+                .likeCount(0)
+                .likeUpdatedAt(now)
+                .hotScore(HotScore.of(0, now))
                 .build();
     }
 
@@ -0,0 +1,18 @@
+package com.examples.demolog.domains.post.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 인기 점수 재계산에 필요한 게시물 컬럼 조회 결과 (본문 등은 읽지 않음)
+ */
+public interface PostHotScoreSource {
+
+    UUID getId();
+
+    long getLikeCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getLikeUpdatedAt();
+}
@@ -0,0 +1,13 @@
+package com.examples.demolog.domains.post.repository;
+
+import java.util.UUID;
+
+/**
+ * 게시물별 좋아요 수 조회 결과
+ */
+public interface PostLikeCount {
+
+    UUID getId();
+
+    long getLikeCount();
+}
@@ -1,9 +1,65 @@
 package com.examples.demolog.domains.post.repository;
 
 import com.examples.demolog.domains.post.model.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface PostRepository extends JpaRepository<Post, UUID>, PostRepositoryCustom {
+
+    /**
+     * 좋아요 수 증가 (행 잠금 하에 UPDATE 한 번으로 처리되어 동시 좋아요에도 누락 없음)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1, p.likeUpdatedAt = :now WHERE p.id = :postId")
+    int incrementLikeCount(@Param("postId") UUID postId, @Param("now") LocalDateTime now);
+
+    /**
+     * 좋아요 수 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1, p.likeUpdatedAt = :now WHERE p.id = :postId AND p.likeCount > 0")
+    int decrementLikeCount(@Param("postId") UUID postId, @Param("now") LocalDateTime now);
+
+    /**
+     * 게시물 좋아요 수 (엔티티를 읽지 않고 like_count 컬럼만 조회)
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findLikeCountById(@Param("postId") UUID postId);
+
+    /**
+     * 게시물별 좋아요 수 (순위 갱신용)
+     */
+    @Query("SELECT p.id AS id, p.likeCount AS likeCount FROM Post p WHERE p.id IN :postIds")
+    List<PostLikeCount> findLikeCountsByIdIn(@Param("postIds") Collection<UUID> postIds);
+
+    /**
+     * 게시물별 좋아요 수 - PK 키셋 순회 (순위 재구축용, 첫 호출은 new UUID(0, 0))
+     */
+    @Query("""
+            SELECT p.id AS id, p.likeCount AS likeCount FROM Post p
+            WHERE p.id > :lastId
+            ORDER BY p.id
+            """)
+    List<PostLikeCount> findLikeCountsAfter(@Param("lastId") UUID lastId, Limit limit);
+
+    /**
+     * 좋아요 수가 (likeUpdatedAt, id) 이후에 바뀐 게시물의 인기 점수 계산 컬럼 - 키셋 순회 (idx_post_like_updated_at_id 인덱스)
+     */
+    @Query("""
+            SELECT p.id AS id, p.likeCount AS likeCount, p.createdAt AS createdAt, p.likeUpdatedAt AS likeUpdatedAt
+            FROM Post p
+            WHERE p.likeUpdatedAt > :likeUpdatedAt
+               OR (p.likeUpdatedAt = :likeUpdatedAt AND p.id > :id)
+            ORDER BY p.likeUpdatedAt, p.id
+            """)
+    List<PostHotScoreSource> findHotScoreSourcesAfter(@Param("likeUpdatedAt") LocalDateTime likeUpdatedAt, @Param("id") UUID id, Limit limit);
 }
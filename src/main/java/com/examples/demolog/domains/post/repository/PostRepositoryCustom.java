@@ -4,6 +4,13 @@ import com.examples.demolog.domains.post.dto.response.PostFeedResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Map;
+import java.util.UUID;
+
 public interface PostRepositoryCustom {
     Page<PostFeedResponse> findFeedOrderByLikeCount(Pageable pageable);
+
+    Page<PostFeedResponse> findFeedOrderByHotScore(Pageable pageable);
+
+    int[] updateHotScores(Map<UUID, Double> hotScores);
 }
@@ -2,7 +2,6 @@ package com.examples.demolog.domains.post.repository;
 
 import com.examples.demolog.domains.post.dto.response.PostFeedResponse;
 import com.examples.demolog.domains.post.model.QPost;
-import com.examples.demolog.domains.postlike.model.QPostLike;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -10,20 +9,31 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 public class PostRepositoryCustomImpl implements PostRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * 좋아요 수 내림차순 피드 - 비정규화된 like_count 로 정렬하므로 POST_LIKE 집계 없이
+     * idx_post_like_count_created_at 인덱스를 순서대로 offset + limit 건만 읽습니다.
+     */
     @Override
     public Page<PostFeedResponse> findFeedOrderByLikeCount(Pageable pageable) {
         QPost post = QPost.post;
-        QPostLike postLike = QPostLike.postLike;
 
         List<PostFeedResponse> content = queryFactory
                 .select(Projections.constructor(PostFeedResponse.class,
@@ -33,12 +43,10 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
                         post.authorId,
                         post.createdAt,
                         post.updatedAt,
-                        postLike.id.count()
+                        post.likeCount
                 ))
                 .from(post)
-                .leftJoin(postLike).on(postLike.postId.eq(post.id))
-                .groupBy(post.id, post.title, post.content, post.authorId, post.createdAt, post.updatedAt)
-                .orderBy(postLike.id.count().desc(), post.createdAt.desc())
+                .orderBy(post.likeCount.desc(), post.createdAt.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -46,4 +54,60 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
         JPAQuery<Long> countQuery = queryFactory.select(post.count()).from(post);
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
+
+    /**
+     * 인기 점수 내림차순 피드 - 백그라운드에서 갱신한 hot_score 로 정렬하므로
+     * idx_post_hot_score_created_at 인덱스를 순서대로 offset + limit 건만 읽습니다.
+     */
+    @Override
+    public Page<PostFeedResponse> findFeedOrderByHotScore(Pageable pageable) {
+        QPost post = QPost.post;
+
+        List<PostFeedResponse> content = queryFactory
+                .select(Projections.constructor(PostFeedResponse.class,
+                        post.id,
+                        post.title,
+                        post.content,
+                        post.authorId,
+                        post.createdAt,
+                        post.updatedAt,
+                        post.likeCount
+                ))
+                .from(post)
+                .orderBy(post.hotScore.desc(), post.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory.select(post.count()).from(post);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 인기 점수 일괄 갱신 - 엔티티를 읽지 않고 hot_score 만 JDBC 배치 UPDATE (PK 조회)
+     */
+    @Override
+    public int[] updateHotScores(Map<UUID, Double> hotScores) {
+        List<Map.Entry<UUID, Double>> entries = List.copyOf(hotScores.entrySet());
+        return jdbcTemplate.batchUpdate("UPDATE post SET hot_score = ? WHERE id = ?", new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setDouble(1, entries.get(i).getValue());
+                ps.setBytes(2, toBytes(entries.get(i).getKey()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    // BINARY(16) 컬럼 값 (Hibernate 의 UUID 매핑과 같은 바이트 순서)
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
 }
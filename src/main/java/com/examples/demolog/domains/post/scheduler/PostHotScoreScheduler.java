@@ -0,0 +1,71 @@
+package com.examples.demolog.domains.post.scheduler;
+
+import com.examples.demolog.domains.common.lock.ScheduledJobLock;
+import com.examples.demolog.domains.post.config.PostFeedProperties;
+import com.examples.demolog.domains.post.service.PostHotScoreApplicationService;
+import com.examples.demolog.domains.post.service.PostHotScoreApplicationService.HotScoreCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 인기 점수(hot_score) 증분 갱신 작업
+ * - 직전 실행 이후 좋아요 수가 바뀐 게시물(like_updated_at)만 다시 계산합니다.
+ *   점수의 시간 항은 작성 시각에만 의존하므로 좋아요가 없는 게시물은 갱신할 필요가 없습니다. (HotScore 참고)
+ * - like_updated_at 은 커밋보다 먼저 기록되므로 직전 실행 시작 시각보다 COMMIT_LAG 만큼 앞에서부터 다시 읽습니다.
+ *   같은 게시물을 두 번 계산해도 결과가 같습니다.
+ * - 모든 인스턴스가 같은 스케줄로 실행하므로 잠금을 얻은 한 곳에서만 갱신합니다. (ScheduledJobLock)
+ * - 직전 실행 시작 시각은 Redis(WATERMARK_KEY)에 두어 재기동이나 실행 인스턴스가 바뀌어도 이어서 계산합니다.
+ *   값이 없을 때(최초 도입, Redis 데이터 유실)만 hotScoreLookback 구간을 다시 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostHotScoreScheduler {
+
+    private static final String JOB = "post-hot-score";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final String WATERMARK_KEY = "post:hot-score:last-started-at";
+    private static final Duration COMMIT_LAG = Duration.ofSeconds(10);
+
+    private final PostHotScoreApplicationService postHotScoreApplicationService;
+    private final ScheduledJobLock scheduledJobLock;
+    private final StringRedisTemplate redisTemplate;
+    private final PostFeedProperties properties;
+
+    @Scheduled(fixedDelayString = "${post.feed.hot-score-refresh-interval-ms:60000}")
+    public void refreshHotScores() {
+        try {
+            if (!scheduledJobLock.runExclusively(JOB, LOCK_TTL, this::refresh)) {
+                log.debug("인기 점수 갱신 건너뜀: 다른 인스턴스가 실행 중");
+            }
+        } catch (Exception e) {
+            // 다음 실행에서 같은 구간부터 다시 계산
+            log.error("인기 점수 갱신 실패", e);
+        }
+    }
+
+    private void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        String lastStartedAt = redisTemplate.opsForValue().get(WATERMARK_KEY);
+        LocalDateTime since = lastStartedAt == null
+                ? startedAt.minus(properties.hotScoreLookback())
+                : LocalDateTime.parse(lastStartedAt).minus(COMMIT_LAG);
+
+        int chunks = 0;
+        HotScoreCursor cursor = HotScoreCursor.since(since);
+        while (cursor != null) {
+            cursor = postHotScoreApplicationService.refreshChunk(cursor, properties.hotScoreBatchSize());
+            chunks++;
+        }
+
+        // 끝까지 계산했을 때만 기준 시각을 옮김
+        redisTemplate.opsForValue().set(WATERMARK_KEY, startedAt.toString());
+        log.debug("인기 점수 갱신 완료: since={}, chunks={}", since, chunks);
+    }
+}
@@ -0,0 +1,33 @@
+package com.examples.demolog.domains.post.scheduler;
+
+import com.examples.demolog.domains.post.service.PostLeaderboardApplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 순위 초기화 작업
+ * - 기동 시 순위 ZSET 이 비어 있으면(최초 도입, Redis 데이터 유실) MySQL like_count 로 재구축합니다.
+ * - 비어 있지 않지만 어긋난 순위는 운영자가 재구축 API(POST /api/admin/posts/feed/leaderboard/rebuild)로 복구합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "post.feed", name = "engine", havingValue = "leaderboard")
+public class PostLeaderboardInitializer {
+
+    private final PostLeaderboardApplicationService postLeaderboardApplicationService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            postLeaderboardApplicationService.rebuildIfEmpty();
+        } catch (Exception e) {
+            // 순위가 비어 있는 동안 피드는 MySQL 로 대체
+            log.error("게시물 좋아요 순위 재구축 실패", e);
+        }
+    }
+}
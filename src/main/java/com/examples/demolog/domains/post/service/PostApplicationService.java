@@ -1,5 +1,8 @@
 package com.examples.demolog.domains.post.service;
 
+import com.examples.demolog.domains.post.cache.PostLeaderboard;
+import com.examples.demolog.domains.post.config.FeedSort;
+import com.examples.demolog.domains.post.config.PostFeedProperties;
 import com.examples.demolog.domains.post.dto.request.CreatePostRequest;
 import com.examples.demolog.domains.post.dto.request.UpdatePostRequest;
 import com.examples.demolog.domains.post.dto.response.PostFeedResponse;
@@ -27,11 +30,17 @@ public class PostApplicationService {
 
     private final PostRepository postRepository;
     private final PostRevisionRepository postRevisionRepository;
+    private final PostLeaderboardApplicationService postLeaderboardApplicationService;
+    private final PostLeaderboard postLeaderboard;
+    private final PostFeedProperties feedProperties;
 
     @Transactional
     public PostResponse createPost(CreatePostRequest request, UUID authorId) {
         Post post = request.toEntity(authorId);
         Post saved = postRepository.save(post);
+        if (feedProperties.leaderboardEnabled()) {
+            postLeaderboard.addAfterCommit(saved.getId());
+        }
         return PostResponse.from(saved);
     }
 
@@ -50,8 +59,22 @@ public class PostApplicationService {
                 .map(PostResponse::from);
     }
 
-    public Page<PostFeedResponse> getFeedPosts(Pageable pageable) {
+    /**
+     * 인기 게시물 피드
+     * - HOT: 시간 감쇠 인기 점수(hot_score) 인덱스 순서
+     * - LIKES: post.feed.engine 에 따라 MySQL like_count 인덱스 또는 Redis 순위 (순위가 비어 있으면 MySQL)
+     */
+    public Page<PostFeedResponse> getFeedPosts(Pageable pageable, FeedSort sort) {
         Pageable normalizedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        if (sort == FeedSort.HOT) {
+            return postRepository.findFeedOrderByHotScore(normalizedPageable);
+        }
+        if (feedProperties.leaderboardEnabled()) {
+            Page<PostFeedResponse> feed = postLeaderboardApplicationService.findFeed(normalizedPageable);
+            if (feed != null) {
+                return feed;
+            }
+        }
         return postRepository.findFeedOrderByLikeCount(normalizedPageable);
     }
 
@@ -75,6 +98,9 @@ public class PostApplicationService {
         Post post = findPostById(postId);
         post.validateAuthorOrThrow(userId);
         postRepository.delete(post);
+        if (feedProperties.leaderboardEnabled()) {
+            postLeaderboard.removeAfterCommit(postId);
+        }
     }
 
     private Post findPostById(UUID postId) {
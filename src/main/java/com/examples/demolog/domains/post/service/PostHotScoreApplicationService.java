@@ -0,0 +1,53 @@
+package com.examples.demolog.domains.post.service;
+
+import com.examples.demolog.domains.post.model.HotScore;
+import com.examples.demolog.domains.post.repository.PostHotScoreSource;
+import com.examples.demolog.domains.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class PostHotScoreApplicationService {
+
+    private final PostRepository postRepository;
+
+    /**
+     * 좋아요 수가 커서 이후에 바뀐 게시물 한 청크의 인기 점수 재계산 (배치 작업용)
+     * - 점수 계산에 필요한 컬럼(id, like_count, created_at, like_updated_at)만 읽고 엔티티는 적재하지 않습니다.
+     * - 청크마다 짧은 트랜잭션으로 커밋하며, hot_score 만 JDBC 배치 UPDATE 로 반영합니다.
+     *
+     * @return 다음 청크 커서 (남은 게시물이 없으면 null)
+     */
+    @Transactional
+    public HotScoreCursor refreshChunk(HotScoreCursor cursor, int chunkSize) {
+        List<PostHotScoreSource> sources = postRepository.findHotScoreSourcesAfter(cursor.likeUpdatedAt(), cursor.id(), Limit.of(chunkSize));
+        if (!sources.isEmpty()) {
+            postRepository.updateHotScores(sources.stream().collect(Collectors.toMap(
+                    PostHotScoreSource::getId, source -> HotScore.of(source.getLikeCount(), source.getCreatedAt()))));
+        }
+
+        if (sources.size() < chunkSize) {
+            return null;
+        }
+        PostHotScoreSource last = sources.getLast();
+        return new HotScoreCursor(last.getLikeUpdatedAt(), last.getId());
+    }
+
+    /**
+     * 인기 점수 갱신 커서 (좋아요 변경 시각, 게시물 ID)
+     */
+    public record HotScoreCursor(LocalDateTime likeUpdatedAt, UUID id) {
+
+        public static HotScoreCursor since(LocalDateTime since) {
+            return new HotScoreCursor(since, new UUID(0L, 0L));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.examples.demolog.domains.post.service;
+
+import com.examples.demolog.domains.post.cache.PostLeaderboard;
+import com.examples.demolog.domains.post.config.PostFeedProperties;
+import com.examples.demolog.domains.post.dto.response.PostFeedResponse;
+import com.examples.demolog.domains.post.exception.PostErrorCode;
+import com.examples.demolog.domains.post.exception.PostException;
+import com.examples.demolog.domains.post.model.Post;
+import com.examples.demolog.domains.post.repository.PostLikeCount;
+import com.examples.demolog.domains.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostLeaderboardApplicationService {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final PostRepository postRepository;
+    private final PostLeaderboard postLeaderboard;
+    private final PostFeedProperties properties;
+
+    /**
+     * 좋아요 순위 피드 - ZREVRANGE 로 페이지의 게시물 ID 를 구하고 게시물 행은 IN 조회 한 번으로 가져옵니다.
+     *
+     * @return 순위가 아직 만들어지지 않았으면 null (호출자가 MySQL 피드로 대체)
+     */
+    public Page<PostFeedResponse> findFeed(Pageable pageable) {
+        long total = postLeaderboard.size();
+        if (total == 0) {
+            return null;
+        }
+
+        List<UUID> postIds = postLeaderboard.range(pageable.getOffset(), pageable.getPageSize());
+        Map<UUID, Post> posts = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<PostFeedResponse> content = postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(PostFeedResponse::from)
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 좋아요 이벤트가 온 게시물의 점수를 MySQL like_count 로 갱신 (삭제된 게시물은 순위에서 제거)
+     */
+    public void refreshScores(Collection<UUID> postIds) {
+        List<PostLikeCount> likeCounts = postRepository.findLikeCountsByIdIn(postIds);
+        postLeaderboard.updateScores(likeCounts);
+
+        Set<UUID> found = likeCounts.stream().map(PostLikeCount::getId).collect(Collectors.toSet());
+        postLeaderboard.remove(postIds.stream().filter(postId -> !found.contains(postId)).toList());
+    }
+
+    /**
+     * 순위가 비어 있으면 재구축 (기동 시 - Redis 데이터 유실 / 최초 도입)
+     * - 여러 인스턴스가 동시에 기동해도 재구축 잠금을 얻은 한 곳만 재구축합니다.
+     *
+     * @return 순위에 넣은 게시물 수 (재구축하지 않았으면 0)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuildIfEmpty() {
+        if (postLeaderboard.size() > 0 || !postLeaderboard.tryLockRebuild(REBUILD_LOCK_TTL)) {
+            return 0;
+        }
+        try {
+            // 잠금을 얻기 전에 다른 인스턴스가 재구축을 마쳤을 수 있음
+            return postLeaderboard.size() > 0 ? 0 : rebuild();
+        } finally {
+            postLeaderboard.unlockRebuild();
+        }
+    }
+
+    /**
+     * 순위 재구축 (운영자 요청 - 비어 있지 않지만 어긋난 순위 복구)
+     *
+     * @return 순위에 넣은 게시물 수
+     * @throws PostException 다른 인스턴스가 재구축 중이면 LEADERBOARD_REBUILD_IN_PROGRESS
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuildNow() {
+        if (!postLeaderboard.tryLockRebuild(REBUILD_LOCK_TTL)) {
+            throw new PostException(PostErrorCode.LEADERBOARD_REBUILD_IN_PROGRESS);
+        }
+        try {
+            return rebuild();
+        } finally {
+            postLeaderboard.unlockRebuild();
+        }
+    }
+
+    /**
+     * MySQL 전체 게시물로 순위 재구축 (재구축 잠금을 얻은 뒤 호출, PK 키셋 순회로 rebuildBatchSize 건씩 읽어 임시 키에 채운 뒤 교체)
+     * - 재구축 도중 바뀐 점수는 교체 후 다음 좋아요 이벤트에서 다시 맞춰집니다.
+     *
+     * @return 순위에 넣은 게시물 수
+     */
+    private long rebuild() {
+        postLeaderboard.clearRebuild();
+
+        long total = 0;
+        UUID lastId = FIRST_ID;
+        List<PostLikeCount> chunk;
+        do {
+            chunk = postRepository.findLikeCountsAfter(lastId, Limit.of(properties.rebuildBatchSize()));
+            postLeaderboard.addToRebuild(chunk);
+            total += chunk.size();
+            if (!chunk.isEmpty()) {
+                lastId = chunk.getLast().getId();
+            }
+        } while (chunk.size() == properties.rebuildBatchSize());
+
+        postLeaderboard.swapRebuild();
+        log.info("게시물 좋아요 순위 재구축 완료: posts={}", total);
+        return total;
+    }
+}
@@ -1,10 +1,12 @@
 package com.examples.demolog.domains.postcomment.event;
 
+import com.examples.demolog.domains.common.outbox.event.OutboxSavedEvent;
 import com.examples.demolog.domains.common.outbox.model.Outbox;
 import com.examples.demolog.domains.common.outbox.repository.OutboxRepository;
 import com.examples.demolog.domains.post.model.Post;
 import com.examples.demolog.global.utils.JsonUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -14,6 +16,7 @@ import java.util.UUID;
 public class PostCommentOutboxWriter {
 
     private final OutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시물 댓글 생성 이벤트를 Outbox에 저장
@@ -22,6 +25,7 @@ public class PostCommentOutboxWriter {
         PostCommentEvent event = PostCommentEvent.created(post.getId(), post.getAuthorId(), actorId);
         Outbox outbox = Outbox.create(event, JsonUtil.toJsonStr(event));
         outboxRepository.save(outbox);
+        eventPublisher.publishEvent(OutboxSavedEvent.from(outbox)); // 커밋 직후 릴레이 즉시 실행
     }
 
 }
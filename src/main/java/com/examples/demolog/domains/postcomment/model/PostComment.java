@@ -2,6 +2,7 @@ package com.examples.demolog.domains.postcomment.model;
 
 import com.examples.demolog.domains.postcomment.exception.PostCommentErrorCode;
 import com.examples.demolog.domains.postcomment.exception.PostCommentException;
+import com.examples.demolog.global.utils.UuidV7Generator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class PostComment {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -1,5 +1,6 @@
 package com.examples.demolog.domains.postlike.model;
 
+import com.examples.demolog.global.utils.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class PostLike {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -4,6 +4,9 @@ import com.examples.demolog.domains.postlike.model.PostLike;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -17,8 +20,12 @@ public interface PostLikeRepository extends JpaRepository<PostLike, UUID> {
 
     /**
      * postId와 userId로 좋아요 삭제
+     *
+     * @return 삭제된 행 수 (동시에 취소해도 한 요청만 1)
      */
-    void deleteByPostIdAndUserId(UUID postId, UUID userId);
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") UUID postId, @Param("userId") UUID userId);
 
     /**
      * postId와 userId로 좋아요 존재 여부 확인
@@ -18,6 +18,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -46,6 +47,7 @@ public class PostLikeApplicationService {
                 .orElseGet(() -> {
                     try {
                         PostLike saved = postLikeRepository.save(PostLike.create(postId, userId));
+                        postRepository.incrementLikeCount(postId, LocalDateTime.now());
                         PostLikeResponse response = PostLikeResponse.from(saved);
                         outboxWriter.savePostLikedEvent(post, userId);
                         return response;
@@ -71,20 +73,18 @@ public class PostLikeApplicationService {
                 .orElseThrow(() -> new PostLikeException(PostLikeErrorCode.POST_NOT_FOUND));
 
         // deleteByPostIdAndUserId는 존재하지 않아도 예외 발생 없음 (멱등성)
-        postLikeRepository.deleteByPostIdAndUserId(postId, userId);
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0) {
+            postRepository.decrementLikeCount(postId, LocalDateTime.now());
+        }
         outboxWriter.savePostUnlikedEvent(post, userId);
     }
 
     /**
-     * 게시물의 좋아요 개수 조회
+     * 게시물의 좋아요 개수 조회 (비정규화된 like_count)
      */
     public long getLikeCount(UUID postId) {
-        // 게시글 존재 여부 확인
-        if (!postRepository.existsById(postId)) {
-            throw new PostLikeException(PostLikeErrorCode.POST_NOT_FOUND);
-        }
-
-        return postLikeRepository.countByPostId(postId);
+        return postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new PostLikeException(PostLikeErrorCode.POST_NOT_FOUND));
     }
 
     /**
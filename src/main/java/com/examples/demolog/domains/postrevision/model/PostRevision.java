@@ -1,6 +1,7 @@
 package com.examples.demolog.domains.postrevision.model;
 
 import com.examples.demolog.domains.post.model.Post;
+import com.examples.demolog.global.utils.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -17,7 +18,7 @@ import java.util.UUID;
 public class PostRevision {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -0,0 +1,21 @@
+package com.examples.demolog.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 관리자 설정
+ *
+ * @param emails 로그인 시 ROLE_ADMIN 을 부여할 사용자 이메일 목록 (/api/admin/** 접근)
+ */
+@ConfigurationProperties(prefix = "admin")
+public record AdminProperties(
+        @DefaultValue List<String> emails
+) {
+
+    public boolean isAdmin(String email) {
+        return emails.contains(email);
+    }
+}
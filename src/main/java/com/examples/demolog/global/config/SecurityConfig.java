@@ -3,8 +3,10 @@ package com.examples.demolog.global.config;
 import com.examples.demolog.global.exception.CommonErrorCode;
 import com.examples.demolog.global.response.ErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -26,6 +28,7 @@ import java.util.Arrays;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(AdminProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -68,6 +71,8 @@ public class SecurityConfig {
                 // URL별 접근 권한 설정
                 .authorizeHttpRequests(authorizeRequests -> {
 
+                    // 비동기 디스패치 허용 (SSE 스트림 완료/타임아웃 처리 - 최초 요청에서 이미 인가됨)
+                    authorizeRequests.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     // 리소스 접근 허용
                     authorizeRequests.requestMatchers("/public/**", "/favicon.ico").permitAll(); // 리소스
                     // 스웨거 접근 허용
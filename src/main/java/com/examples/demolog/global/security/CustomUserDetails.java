@@ -56,13 +56,19 @@ public class CustomUserDetails implements UserDetails, CredentialsContainer {
         this.credentialsNonExpired = credentialsNonExpired;
     }
 
-    public static CustomUserDetails from(AppUser user) {
+    /**
+     * @param admin 관리자 여부 (ROLE_USER 에 ROLE_ADMIN 추가 - AdminProperties 참고)
+     */
+    public static CustomUserDetails from(AppUser user, boolean admin) {
+        Set<GrantedAuthority> authorities = admin
+                ? Set.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))
+                : Set.of(new SimpleGrantedAuthority("ROLE_USER"));
         return CustomUserDetails.builder()
                 .userId(user.getId())
                 .email(user.getEmail())
                 .password(user.getPassword())
                 .nickname(user.getNickname())
-                .authorities(Set.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .authorities(authorities)
                 .enabled(true)
                 .accountNonExpired(true)
                 .accountNonLocked(true)
@@ -1,6 +1,7 @@
 package com.examples.demolog.global.security;
 
 import com.examples.demolog.domains.auth.repository.AppUserRepository;
+import com.examples.demolog.global.config.AdminProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,11 +13,12 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final AppUserRepository appUserRepository;
+    private final AdminProperties adminProperties;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         return appUserRepository.findByEmail(email)
-                .map(CustomUserDetails::from)
+                .map(user -> CustomUserDetails.from(user, adminProperties.isAdmin(user.getEmail())))
                 .orElseThrow(() -> new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다: " + email));
     }
 
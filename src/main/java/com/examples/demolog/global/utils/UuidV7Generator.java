@@ -0,0 +1,66 @@
+package com.examples.demolog.global.utils;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUID v7 (RFC 9562) 생성기
+ * <p>
+ * 상위 48비트에 Unix epoch 밀리초, 다음 12비트(rand_a)에 같은 밀리초 안의 순번을 두어
+ * 프로세스 내에서 생성 순서대로 단조 증가하는 값을 만듭니다.
+ * BINARY(16) 기본 키는 바이트 순서로 정렬되므로 새 행이 항상 B-tree 의 오른쪽 끝에 추가되어
+ * 페이지 분할과 버퍼 풀 미스가 줄어듭니다.
+ * (Hibernate 의 Style.TIME 은 UUID v1 으로, 타임스탬프 하위 비트가 앞에 있어 바이트 순서가 시간 순서와 다릅니다.)
+ * <p>
+ * 사용: {@code @UuidGenerator(algorithm = UuidV7Generator.class)}
+ * 하위 62비트는 예측 불가능성이 필요한 보안 토큰 용도가 아니므로 ThreadLocalRandom 으로 채웁니다.
+ */
+public final class UuidV7Generator implements UuidValueGenerator {
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastTimestamp = -1L;
+    private static int sequence;
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return generate();
+    }
+
+    /**
+     * 단조 증가하는 UUID v7 생성
+     * - 같은 밀리초 안에서는 순번을 증가시키고, 순번을 소진하거나 시계가 뒤로 가면 직전 타임스탬프를 1ms 앞당겨 사용합니다.
+     */
+    public static UUID generate() {
+        long timestamp;
+        int seq;
+        synchronized (UuidV7Generator.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                sequence = 0;
+            } else if (++sequence > MAX_SEQUENCE) {
+                lastTimestamp++;
+                sequence = 0;
+            }
+            timestamp = lastTimestamp;
+            seq = sequence;
+        }
+
+        long msb = (timestamp << 16) | 0x7000L | seq;                                          // unix_ts_ms(48) | ver(4) | rand_a(12)
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L; // var(2) | rand_b(62)
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * UUID v7 에 담긴 생성 시각 (밀리초 단위, 다른 버전이면 빈 값)
+     */
+    public static Optional<Instant> timestampOf(UUID uuid) {
+        return uuid.version() == 7 ? Optional.of(Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16)) : Optional.empty();
+    }
+}
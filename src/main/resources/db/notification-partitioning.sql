@@ -0,0 +1,29 @@
+-- NOTIFICATION 테이블 월 단위 RANGE 파티셔닝 (최초 1회 적용, 애플리케이션 배포 전 마이그레이션으로 실행)
+--
+-- MySQL 파티션 테이블은 모든 유니크 키(PK 포함)에 파티션 컬럼이 있어야 하므로 PK 를 (id, created_at) 으로 바꿉니다.
+-- id 는 UUIDv7 로 그 자체로 유일하며, 엔티티 매핑(@Id id)은 그대로 둡니다.
+--
+-- 적용 시점의 이번 달과 다음 두 달(notification.retention.premake-months 기본값) 월 파티션, pmax 를 만듭니다.
+-- 기존 행은 이번 달 파티션에 모두 들어가며(테이블을 한 번 다시 씀), 보존 기간이 지나면 통째로 삭제됩니다.
+-- 이후 월 파티션 추가 / 만료 파티션 삭제는 NotificationPartitionScheduler 가 매일 한 인스턴스에서 수행합니다.
+
+ALTER TABLE notification MODIFY created_at DATETIME(6) NOT NULL;
+
+ALTER TABLE notification DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+
+SET @month0 = DATE_FORMAT(CURDATE(), '%Y-%m-01');
+SET @month1 = DATE_FORMAT(CURDATE() + INTERVAL 1 MONTH, '%Y-%m-01');
+SET @month2 = DATE_FORMAT(CURDATE() + INTERVAL 2 MONTH, '%Y-%m-01');
+SET @month3 = DATE_FORMAT(CURDATE() + INTERVAL 3 MONTH, '%Y-%m-01');
+
+SET @partition_ddl = CONCAT(
+    'ALTER TABLE notification PARTITION BY RANGE COLUMNS (created_at) (',
+    'PARTITION p', DATE_FORMAT(@month0, '%Y%m'), ' VALUES LESS THAN (''', @month1, '''), ',
+    'PARTITION p', DATE_FORMAT(@month1, '%Y%m'), ' VALUES LESS THAN (''', @month2, '''), ',
+    'PARTITION p', DATE_FORMAT(@month2, '%Y%m'), ' VALUES LESS THAN (''', @month3, '''), ',
+    'PARTITION pmax VALUES LESS THAN (MAXVALUE))'
+);
+
+PREPARE partition_stmt FROM @partition_ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
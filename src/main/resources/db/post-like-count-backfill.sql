@@ -0,0 +1,13 @@
+-- POST.like_count 백필 (like_count 컬럼 추가 후 최초 1회 적용)
+--
+-- 컬럼 추가 이전의 좋아요는 like_count 에 반영되어 있지 않으므로 POST_LIKE 기준으로 다시 셉니다.
+-- 이후에는 좋아요 / 취소 트랜잭션이 like_count 를 함께 증감합니다.
+
+UPDATE post p
+SET p.like_count = (SELECT COUNT(*) FROM post_like l WHERE l.post_id = p.id);
+
+-- like_updated_at / hot_score 컬럼 추가 후: 모든 게시물을 방금 좋아요가 바뀐 것으로 표시하면
+-- 인기 점수 갱신 작업(PostHotScoreScheduler)이 다음 실행에서 hot_score 를 다시 계산합니다.
+
+UPDATE post
+SET like_updated_at = NOW(6);
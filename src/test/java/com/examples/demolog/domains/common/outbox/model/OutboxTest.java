@@ -0,0 +1,80 @@
+package com.examples.demolog.domains.common.outbox.model;
+
+import com.examples.demolog.domains.postlike.event.PostLikeEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Outbox 엔티티")
+class OutboxTest {
+
+    @Nested
+    @DisplayName("생성")
+    class Creation {
+
+        @Test
+        @DisplayName("같은 aggregateId 의 이벤트는 같은 샤드에 배정된다")
+        void sameAggregateIdHasSameShard() {
+            UUID postId = UUID.randomUUID();
+
+            Outbox liked = createOutbox(PostLikeEvent.liked(postId, UUID.randomUUID(), UUID.randomUUID()));
+            Outbox unliked = createOutbox(PostLikeEvent.unliked(postId, UUID.randomUUID(), UUID.randomUUID()));
+
+            assertThat(liked.getShard()).isEqualTo(unliked.getShard());
+            assertThat(liked.getShard()).isBetween(0, Outbox.SHARD_COUNT - 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("발행 실패")
+    class Failure {
+
+        @Test
+        @DisplayName("실패할 때마다 시도 횟수가 증가하고 다음 재시도 시각이 예약된다")
+        void markAsFailedSchedulesRetry() {
+            Outbox outbox = createOutbox(PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(1);
+
+            outbox.markAsFailed(nextAttemptAt);
+
+            assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            assertThat(outbox.getAttemptCount()).isEqualTo(1);
+            assertThat(outbox.getNextAttemptAt()).isEqualTo(nextAttemptAt);
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 재시도가 소진된다")
+        void retryExhaustedAtMaxAttempts() {
+            Outbox outbox = createOutbox(PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+            outbox.markAsFailed(LocalDateTime.now());
+            outbox.markAsFailed(LocalDateTime.now());
+
+            assertThat(outbox.isRetryExhausted(3)).isFalse();
+            outbox.markAsFailed(LocalDateTime.now());
+            assertThat(outbox.isRetryExhausted(3)).isTrue();
+        }
+
+        @Test
+        @DisplayName("데드 레터 이관 후에는 재시도가 예약되지 않는다")
+        void deadLetteredHasNoNextAttempt() {
+            Outbox outbox = createOutbox(PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+            outbox.markAsFailed(LocalDateTime.now());
+
+            outbox.markAsDeadLettered();
+
+            assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DEAD_LETTERED);
+            assertThat(outbox.getNextAttemptAt()).isNull();
+            assertThat(outbox.getProcessedAt()).isNotNull();
+        }
+    }
+
+    private Outbox createOutbox(PostLikeEvent event) {
+        return Outbox.create(event, "{}");
+    }
+}
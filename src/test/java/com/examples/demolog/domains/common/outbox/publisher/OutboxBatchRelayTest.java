@@ -0,0 +1,116 @@
+package com.examples.demolog.domains.common.outbox.publisher;
+
+import com.examples.demolog.domains.common.outbox.model.Outbox;
+import com.examples.demolog.domains.common.outbox.model.OutboxStatus;
+import com.examples.demolog.domains.common.outbox.repository.OutboxRepository;
+import com.examples.demolog.domains.postlike.event.PostLikeEvent;
+import com.examples.demolog.global.utils.JsonUtil;
+import jakarta.persistence.EntityManager;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@Transactional
+@DisplayName("OutboxBatchRelay 테스트")
+class OutboxBatchRelayTest {
+
+    @Autowired
+    private OutboxBatchRelay outboxBatchRelay;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Test
+    @DisplayName("좋아요 발행 실패 후 좋아요 취소가 생기면, 재시도한 좋아요가 먼저 발행되고 취소가 뒤따른다")
+    void failedEventIsRetriedBeforeLaterEventOfSameAggregate() {
+        // Given: 좋아요 발행 실패
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        UUID actorId = UUID.randomUUID();
+        Outbox liked = save(PostLikeEvent.liked(postId, authorId, actorId));
+        List<Integer> shards = List.of(liked.getShard());
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 장애")))
+                .thenAnswer(i -> CompletableFuture.completedFuture(mock(SendResult.class)));
+        outboxBatchRelay.relayNextBatch(shards, 100);
+        entityManager.flush();
+        assertThat(liked.getStatus()).isEqualTo(OutboxStatus.FAILED);
+
+        // When: 재시도를 기다리는 동안 좋아요 취소가 쌓임
+        Outbox unliked = save(PostLikeEvent.unliked(postId, authorId, actorId));
+        int claimedWhileWaiting = outboxBatchRelay.relayNextBatch(shards, 100);
+
+        // When: 재시도 시각 도래 후 레인 실행 (재시도 → 발행 대기 순)
+        ReflectionTestUtils.setField(liked, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+        entityManager.flush();
+        int retried = outboxBatchRelay.relayRetryBatch(shards, 100);
+        int published = outboxBatchRelay.relayNextBatch(shards, 100);
+
+        // Then
+        assertThat(claimedWhileWaiting).isZero();
+        assertThat(retried).isEqualTo(1);
+        assertThat(published).isEqualTo(1);
+        ArgumentCaptor<ProducerRecord<String, String>> sent = ArgumentCaptor.captor();
+        verify(kafkaTemplate, times(3)).send(sent.capture());
+        assertThat(sent.getAllValues())
+                .extracting(ProducerRecord::value)
+                .containsExactly(liked.getPayload(), liked.getPayload(), unliked.getPayload());
+    }
+
+    @Test
+    @DisplayName("같은 배치에서 좋아요 발행이 실패하면 뒤의 좋아요 취소는 전송하지 않고 발행 대기로 남긴다")
+    void laterEventOfFailedAggregateIsHeldBackInSameBatch() {
+        // Given
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        Outbox liked = save(PostLikeEvent.liked(postId, authorId, UUID.randomUUID()));
+        Outbox unliked = save(PostLikeEvent.unliked(postId, authorId, UUID.randomUUID()));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("레코드 크기 초과")))
+                .thenAnswer(i -> CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        outboxBatchRelay.relayNextBatch(List.of(liked.getShard()), 100);
+        entityManager.flush();
+        entityManager.refresh(unliked);
+
+        // Then
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        assertThat(liked.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(unliked.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(unliked.getAttemptCount()).isZero();
+    }
+
+    private Outbox save(PostLikeEvent event) {
+        Outbox outbox = outboxRepository.save(Outbox.create(event, JsonUtil.toJsonStr(event)));
+        entityManager.flush();
+        return outbox;
+    }
+}
@@ -0,0 +1,65 @@
+package com.examples.demolog.domains.common.outbox.publisher;
+
+import com.examples.demolog.domains.common.outbox.model.Outbox;
+import com.examples.demolog.domains.postlike.event.PostLikeEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxEventCoalescer")
+class OutboxEventCoalescerTest {
+
+    private final OutboxEventCoalescer coalescer = new OutboxEventCoalescer();
+
+    private final UUID postId = UUID.randomUUID();
+    private final UUID authorId = UUID.randomUUID();
+    private final UUID actorId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("같은 사용자의 좋아요 → 좋아요 취소는 모두 발행하지 않는다")
+    void likeThenUnlikeIsCoalesced() {
+        Outbox liked = outbox(PostLikeEvent.liked(postId, authorId, actorId));
+        Outbox unliked = outbox(PostLikeEvent.unliked(postId, authorId, actorId));
+
+        OutboxEventCoalescer.Result result = coalescer.coalesce(List.of(liked, unliked));
+
+        assertThat(result.toPublish()).isEmpty();
+        assertThat(result.coalesced()).containsExactly(liked, unliked);
+    }
+
+    @Test
+    @DisplayName("좋아요 → 취소 → 좋아요는 마지막 좋아요만 발행한다")
+    void likeUnlikeLikePublishesLastLike() {
+        Outbox first = outbox(PostLikeEvent.liked(postId, authorId, actorId));
+        Outbox unliked = outbox(PostLikeEvent.unliked(postId, authorId, actorId));
+        Outbox last = outbox(PostLikeEvent.liked(postId, authorId, actorId));
+
+        OutboxEventCoalescer.Result result = coalescer.coalesce(List.of(first, unliked, last));
+
+        assertThat(result.toPublish()).containsExactly(last);
+        assertThat(result.coalesced()).containsExactlyInAnyOrder(first, unliked);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 이벤트끼리는 상쇄하지 않는다")
+    void differentActorsAreNotCoalesced() {
+        Outbox liked = outbox(PostLikeEvent.liked(postId, authorId, actorId));
+        Outbox unlikedByOther = outbox(PostLikeEvent.unliked(postId, authorId, UUID.randomUUID()));
+
+        OutboxEventCoalescer.Result result = coalescer.coalesce(List.of(liked, unlikedByOther));
+
+        assertThat(result.toPublish()).containsExactly(liked, unlikedByOther);
+        assertThat(result.coalesced()).isEmpty();
+    }
+
+    private Outbox outbox(PostLikeEvent event) {
+        Outbox outbox = Outbox.create(event, "{}");
+        ReflectionTestUtils.setField(outbox, "id", UUID.randomUUID());
+        return outbox;
+    }
+}
@@ -0,0 +1,161 @@
+package com.examples.demolog.domains.common.outbox.publisher;
+
+import com.examples.demolog.domains.common.outbox.config.OutboxRelayProperties;
+import com.examples.demolog.domains.common.outbox.config.OutboxRetryProperties;
+import com.examples.demolog.domains.common.outbox.lease.OutboxShardLeaseManager;
+import com.examples.demolog.domains.common.outbox.metrics.OutboxRelayMetrics;
+import com.examples.demolog.domains.common.outbox.model.Outbox;
+import com.examples.demolog.domains.common.outbox.repository.OutboxRepository;
+import com.examples.demolog.domains.postlike.event.PostLikeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아웃박스 릴레이 전송 처리량 벤치마크 (./gradlew benchmark)
+ * - 이전: 이벤트마다 send().get() 으로 브로커 왕복을 기다리는 순차 전송
+ * - 이후: OutboxBatchRelay 의 파이프라이닝 전송 + 일괄 상태 반영
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 3, topics = "post-like-events")
+@DisplayName("OutboxBatchRelay 처리량 벤치마크")
+class OutboxRelayBenchmarkTest {
+
+    private static final int EVENT_COUNT = 5_000;
+    private static final int BATCH_SIZE = 500;
+    private static final List<Integer> SINGLE_SHARD = List.of(0);
+
+    // 이전 설정(linger.ms=0)의 프로듀서와 application.yaml 설정(linger.ms=5)의 프로듀서
+    private DefaultKafkaProducerFactory<String, String> sequentialProducerFactory;
+    private DefaultKafkaProducerFactory<String, String> pipelinedProducerFactory;
+    private KafkaTemplate<String, String> sequentialKafkaTemplate;
+    private KafkaTemplate<String, String> pipelinedKafkaTemplate;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        sequentialProducerFactory = createProducerFactory(broker, 0);
+        pipelinedProducerFactory = createProducerFactory(broker, 5);
+        sequentialKafkaTemplate = new KafkaTemplate<>(sequentialProducerFactory);
+        pipelinedKafkaTemplate = new KafkaTemplate<>(pipelinedProducerFactory);
+
+        // 워밍업: 토픽 메타데이터 조회 및 커넥션 수립
+        sendSequentially(sequentialKafkaTemplate, createBatch(BATCH_SIZE));
+        sendSequentially(pipelinedKafkaTemplate, createBatch(BATCH_SIZE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sequentialProducerFactory.destroy();
+        pipelinedProducerFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("순차 전송과 파이프라이닝 전송의 초당 이벤트 수를 비교한다")
+    void compareSequentialAndPipelinedThroughput() {
+        // Given
+        List<List<Outbox>> sequentialBatches = createBatches();
+        List<List<Outbox>> pipelinedBatches = createBatches();
+
+        OutboxRepository outboxRepository = mock(OutboxRepository.class);
+        OutboxShardLeaseManager shardLeaseManager = mock(OutboxShardLeaseManager.class);
+        when(shardLeaseManager.fence(anyInt())).thenReturn(true);
+        var stubbing = when(outboxRepository.claimPendingBatch(anyInt(), anyInt()));
+        for (List<Outbox> batch : pipelinedBatches) {
+            stubbing = stubbing.thenReturn(batch);
+        }
+        OutboxRelayProperties properties = new OutboxRelayProperties(BATCH_SIZE, 1, 5000, 30_000, false, "outbox-relay-");
+        OutboxRetryProperties retryProperties = new OutboxRetryProperties(5, Duration.ofSeconds(1), Duration.ofMinutes(10), 2.0, ".DLT", 1000);
+        OutboxBatchRelay relay = new OutboxBatchRelay(outboxRepository, pipelinedKafkaTemplate, properties, retryProperties,
+                new OutboxEventCoalescer(), new StaticListableBeanFactory().getBeanProvider(OutboxTransactionalSender.class),
+                new OutboxRelayMetrics(new SimpleMeterRegistry(), outboxRepository), shardLeaseManager);
+
+        // When: 이전 방식 (이벤트당 브로커 왕복 1회)
+        long sequentialStart = System.nanoTime();
+        sequentialBatches.forEach(batch -> sendSequentially(sequentialKafkaTemplate, batch));
+        long sequentialNanos = System.nanoTime() - sequentialStart;
+
+        // When: 파이프라이닝 방식
+        long pipelinedStart = System.nanoTime();
+        int relayed = 0;
+        for (int i = 0; i < pipelinedBatches.size(); i++) {
+            relayed += relay.relayNextBatch(SINGLE_SHARD, BATCH_SIZE);
+        }
+        long pipelinedNanos = System.nanoTime() - pipelinedStart;
+
+        // Then
+        double sequentialEps = EVENT_COUNT / (sequentialNanos / 1_000_000_000.0);
+        double pipelinedEps = EVENT_COUNT / (pipelinedNanos / 1_000_000_000.0);
+        System.out.printf("[OutboxRelay] events=%d, batchSize=%d%n", EVENT_COUNT, BATCH_SIZE);
+        System.out.printf("[OutboxRelay] sequential send().get() : %,.0f events/s%n", sequentialEps);
+        System.out.printf("[OutboxRelay] pipelined batch send    : %,.0f events/s (x%.1f)%n", pipelinedEps, pipelinedEps / sequentialEps);
+
+        assertThat(relayed).isEqualTo(EVENT_COUNT);
+        assertThat(pipelinedBatches).flatMap(batch -> batch)
+                .allSatisfy(outbox -> assertThat(outbox.getAttemptCount()).isZero());
+    }
+
+    private DefaultKafkaProducerFactory<String, String> createProducerFactory(EmbeddedKafkaBroker broker, int lingerMs) {
+        return new DefaultKafkaProducerFactory<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.LINGER_MS_CONFIG, lingerMs
+        ));
+    }
+
+    private void sendSequentially(KafkaTemplate<String, String> kafkaTemplate, List<Outbox> batch) {
+        for (Outbox outbox : batch) {
+            try {
+                kafkaTemplate.send(outbox.getTopic(), outbox.getAggregateId().toString(), outbox.getPayload()).get();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private List<List<Outbox>> createBatches() {
+        List<List<Outbox>> batches = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT / BATCH_SIZE; i++) {
+            batches.add(createBatch(BATCH_SIZE));
+        }
+        return batches;
+    }
+
+    private List<Outbox> createBatch(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> createOutbox())
+                .toList();
+    }
+
+    private Outbox createOutbox() {
+        PostLikeEvent event = PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        String payload = """
+                {"eventType":"POST_LIKED","postId":"%s","actorId":"%s"}""".formatted(event.postId(), event.actorId());
+        Outbox outbox = Outbox.create(event, payload);
+        ReflectionTestUtils.setField(outbox, "id", UUID.randomUUID());
+        return outbox;
+    }
+}
@@ -0,0 +1,300 @@
+package com.examples.demolog.domains.notification.consumer;
+
+import com.examples.demolog.domains.common.kafka.consumer.PartitionPauser;
+import com.examples.demolog.domains.common.kafka.consumer.RecentEventIdFilter;
+import com.examples.demolog.domains.common.kafka.consumer.RetryTopicForwarder;
+import com.examples.demolog.domains.common.kafka.event.EventEnvelope;
+import com.examples.demolog.domains.common.kafka.event.EventHeaders;
+import com.examples.demolog.domains.common.kafka.model.ProcessedEvent;
+import com.examples.demolog.domains.common.kafka.repository.ProcessedEventRepository;
+import com.examples.demolog.domains.common.kafka.service.ProcessedEventApplicationService;
+import com.examples.demolog.domains.notification.cache.RecentNotificationCache;
+import com.examples.demolog.domains.notification.cache.UnreadCountCache;
+import com.examples.demolog.domains.notification.config.NotificationAggregationProperties;
+import com.examples.demolog.domains.notification.config.NotificationConsumerProperties;
+import com.examples.demolog.domains.notification.config.NotificationRetentionProperties;
+import com.examples.demolog.domains.notification.model.Notification;
+import com.examples.demolog.domains.notification.repository.NotificationReadMarkRepository;
+import com.examples.demolog.domains.notification.repository.NotificationRepository;
+import com.examples.demolog.domains.notification.stream.NotificationPushPublisher;
+import com.examples.demolog.domains.notification.service.NotificationApplicationService;
+import com.examples.demolog.domains.postlike.event.PostLikeEvent;
+import com.examples.demolog.global.utils.JsonUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("NotificationEventConsumer 테스트")
+class NotificationEventConsumerTest {
+
+    private final NotificationApplicationService notificationApplicationService = mock(NotificationApplicationService.class);
+    private final Acknowledgment ack = mock(Acknowledgment.class);
+    private final Consumer<?, ?> kafkaConsumer = mock(Consumer.class);
+    private final RetryTopicForwarder retryTopicForwarder = mock(RetryTopicForwarder.class);
+    private final PartitionPauser partitionPauser = mock(PartitionPauser.class);
+    private ExecutorService executor;
+    private NotificationEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        JsonUtil.init(new ObjectMapper().findAndRegisterModules());
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        consumer = createConsumer(notificationApplicationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("같은 게시물의 이벤트는 같은 그룹에서 수신 순서대로 처리된다")
+    void sameKeyKeepsOrder() {
+        // Given
+        UUID postId = UUID.randomUUID();
+        PostLikeEvent first = PostLikeEvent.liked(postId, UUID.randomUUID(), UUID.randomUUID());
+        PostLikeEvent second = PostLikeEvent.liked(postId, UUID.randomUUID(), UUID.randomUUID());
+        when(notificationApplicationService.createPostLikedNotifications(anyList())).thenAnswer(i -> ((List<?>) i.getArgument(0)).size());
+
+        // When
+        consumer.handlePostLikeEvents(List.of(toRecord(0, first), toRecord(1, second)), ack, kafkaConsumer);
+
+        // Then
+        verify(notificationApplicationService).createPostLikedNotifications(
+                List.of(new EventEnvelope<>(null, first), new EventEnvelope<>(null, second)));
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("그룹 처리에 실패하면 실패한 그룹만 재시도 토픽으로 넘기고 배치 전체를 ack 한다")
+    void forwardFailedGroupToRetryTopic() {
+        // Given: 해시 그룹이 서로 다른 두 게시물
+        PostLikeEvent ok = PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        PostLikeEvent failing = eventInOtherGroupThan(ok.postId());
+        IllegalStateException failure = new IllegalStateException("DB 장애");
+        when(notificationApplicationService.createPostLikedNotifications(anyList())).thenReturn(1);
+        when(notificationApplicationService.createPostLikedNotifications(
+                argThat(envelopes -> envelopes.contains(new EventEnvelope<>(null, failing)))))
+                .thenThrow(failure);
+        List<ConsumerRecord<String, String>> consumerRecords = List.of(toRecord(0, ok), toRecord(1, failing), toRecord(2, ok));
+
+        // When
+        consumer.handlePostLikeEvents(consumerRecords, ack, kafkaConsumer);
+
+        // Then
+        verify(retryTopicForwarder).forward(List.of(consumerRecords.get(1)), failure);
+        verify(ack).acknowledge();
+        verify(ack, never()).nack(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("집계 알림 동시 갱신으로 버전 충돌이 나면 재시도 토픽으로 넘기지 않고 그룹을 곧바로 다시 처리한다")
+    void reprocessGroupOnVersionConflict() {
+        // Given
+        PostLikeEvent event = PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(notificationApplicationService.createPostLikedNotifications(anyList()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Notification.class, UUID.randomUUID()))
+                .thenReturn(1);
+
+        // When
+        consumer.handlePostLikeEvents(List.of(toRecord(0, event)), ack, kafkaConsumer);
+
+        // Then
+        verify(notificationApplicationService, times(2)).createPostLikedNotifications(List.of(new EventEnvelope<>(null, event)));
+        verify(retryTopicForwarder, never()).forward(anyList(), any());
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 전달까지 실패하면 실패한 파티션만 실패 오프셋까지 커밋하고 그 위치로 되돌린다")
+    void commitUpToLowestUnforwardedOffsetPerPartition() {
+        // Given: 해시 그룹이 서로 다른 두 게시물, 실패 그룹은 파티션 0 에만 있음
+        PostLikeEvent ok = PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        PostLikeEvent failing = eventInOtherGroupThan(ok.postId());
+        when(notificationApplicationService.createPostLikedNotifications(anyList())).thenReturn(1);
+        when(notificationApplicationService.createPostLikedNotifications(
+                argThat(envelopes -> envelopes.contains(new EventEnvelope<>(null, failing)))))
+                .thenThrow(new IllegalStateException("DB 장애"));
+        doThrow(new IllegalStateException("브로커 장애")).when(retryTopicForwarder).forward(anyList(), any());
+
+        // When
+        consumer.handlePostLikeEvents(List.of(toRecord(0, 0, ok), toRecord(0, 1, failing), toRecord(1, 5, ok)), ack, kafkaConsumer);
+
+        // Then
+        verify(kafkaConsumer).commitSync(Map.of(
+                new TopicPartition("post-like", 0), new OffsetAndMetadata(1),
+                new TopicPartition("post-like", 1), new OffsetAndMetadata(6)));
+        verify(kafkaConsumer).seek(new TopicPartition("post-like", 0), 1);
+        verify(ack, never()).acknowledge();
+        verify(ack, never()).nack(anyInt(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("실패 지점 뒤에서 이미 처리한 레코드는 재전달되어도 다시 처리하지 않는다")
+    void skipRecordsProcessedAheadOfFailure() {
+        // Given: 파티션 0 의 offset 1 그룹은 처리와 재시도 토픽 전달 모두 실패, offset 2 그룹은 성공
+        PostLikeEvent ok = PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        PostLikeEvent failing = eventInOtherGroupThan(ok.postId());
+        when(notificationApplicationService.createPostLikedNotifications(anyList())).thenReturn(1);
+        when(notificationApplicationService.createPostLikedNotifications(
+                argThat(envelopes -> envelopes.contains(new EventEnvelope<>(null, failing)))))
+                .thenThrow(new IllegalStateException("DB 장애"))
+                .thenReturn(1);
+        doThrow(new IllegalStateException("브로커 장애")).doNothing().when(retryTopicForwarder).forward(anyList(), any());
+        consumer.handlePostLikeEvents(List.of(toRecord(0, 1, failing), toRecord(0, 2, ok)), ack, kafkaConsumer);
+
+        // When: 실패 오프셋부터 재전달
+        consumer.handlePostLikeEvents(List.of(toRecord(0, 1, failing), toRecord(0, 2, ok)), ack, kafkaConsumer);
+
+        // Then
+        verify(notificationApplicationService, times(1)).createPostLikedNotifications(List.of(new EventEnvelope<>(null, ok)));
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("재시도 토픽에서는 만기 전 레코드가 있는 파티션만 그 위치로 되돌려 만기까지 멈추고, 다른 파티션의 만기된 레코드는 처리한다")
+    void retryPausesOnlyPartitionNotDue() {
+        // Given: 파티션 0 은 offset 1 부터 만기 전, 파티션 1 은 배치에서 뒤에 있지만 만기됨
+        PostLikeEvent due = PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        PostLikeEvent notDue = PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        PostLikeEvent otherPartitionDue = PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(notificationApplicationService.createPostLikedNotifications(anyList())).thenAnswer(i -> ((List<?>) i.getArgument(0)).size());
+        Instant dueAt = Instant.now().plusSeconds(30);
+
+        // When
+        consumer.handleFirstRetry(List.of(withDueAt(toRecord(0, 0, due), Instant.now().minusSeconds(1)),
+                withDueAt(toRecord(0, 1, notDue), dueAt),
+                withDueAt(toRecord(1, 7, otherPartitionDue), Instant.now().minusSeconds(1))), ack, kafkaConsumer);
+
+        // Then
+        verify(notificationApplicationService, never()).createPostLikedNotifications(
+                argThat(envelopes -> envelopes.contains(new EventEnvelope<>(null, notDue))));
+        verify(notificationApplicationService).createPostLikedNotifications(
+                argThat(envelopes -> envelopes.contains(new EventEnvelope<>(null, otherPartitionDue))));
+        verify(kafkaConsumer).commitSync(Map.of(
+                new TopicPartition("post-like", 0), new OffsetAndMetadata(1),
+                new TopicPartition("post-like", 1), new OffsetAndMetadata(8)));
+        verify(kafkaConsumer).seek(new TopicPartition("post-like", 0), 1);
+        verify(partitionPauser).pauseUntil("notification-retry-0", new TopicPartition("post-like", 0),
+                Instant.ofEpochMilli(dueAt.toEpochMilli()));
+        verify(ack, never()).nack(anyInt(), any(Duration.class));
+        verify(ack, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("같은 토픽을 두 번 재생해도 알림 수가 변하지 않는다")
+    void replayTwiceDoesNotDuplicateNotifications() {
+        // Given: 알림 / 처리 완료 이벤트 저장소를 메모리로 대체한 실제 서비스
+        List<Notification> stored = new CopyOnWriteArrayList<>();
+        NotificationRepository notificationRepository = mock(NotificationRepository.class);
+        when(notificationRepository.findOpenAggregates(anyCollection(), any(), any(), any())).thenAnswer(i -> stored.stream()
+                .filter(notification -> ((Collection<?>) i.getArgument(0)).contains(notification.getTargetId()))
+                .toList());
+        when(notificationRepository.saveAll(anyList())).thenAnswer(i -> {
+            List<Notification> notifications = i.getArgument(0);
+            stored.addAll(notifications);
+            return notifications;
+        });
+
+        Set<UUID> processedEventIds = ConcurrentHashMap.newKeySet();
+        ProcessedEventRepository processedEventRepository = mock(ProcessedEventRepository.class);
+        when(processedEventRepository.findEventIdsByConsumerAndEventIdIn(any(), anyCollection())).thenAnswer(i -> processedEventIds.stream()
+                .filter(((Collection<?>) i.getArgument(1))::contains)
+                .collect(Collectors.toSet()));
+        when(processedEventRepository.saveAll(anyList())).thenAnswer(i -> {
+            List<ProcessedEvent> processed = i.getArgument(0);
+            processed.forEach(event -> processedEventIds.add(event.getEventId()));
+            return processed;
+        });
+
+        NotificationApplicationService service = new NotificationApplicationService(notificationRepository, mock(NotificationReadMarkRepository.class),
+                new ProcessedEventApplicationService(processedEventRepository),
+                new NotificationAggregationProperties(true, Duration.ofHours(1)), new NotificationRetentionProperties(true, 6, 2),
+                mock(UnreadCountCache.class),
+                mock(RecentNotificationCache.class), mock(NotificationPushPublisher.class));
+
+        List<ConsumerRecord<String, String>> topic = IntStream.range(0, 20)
+                .mapToObj(i -> withEventId(toRecord(i, PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()))))
+                .toList();
+
+        // When: 같은 인스턴스에서 두 번, 메모리 필터가 없는 새 인스턴스(재시작/리밸런싱)에서 한 번 더 재생
+        NotificationEventConsumer first = createConsumer(service);
+        first.handlePostLikeEvents(topic, ack, kafkaConsumer);
+        int afterFirstReplay = stored.size();
+        first.handlePostLikeEvents(topic, ack, kafkaConsumer);
+        createConsumer(service).handlePostLikeEvents(topic, ack, kafkaConsumer);
+
+        // Then
+        assertThat(afterFirstReplay).isEqualTo(20);
+        assertThat(stored).hasSize(afterFirstReplay);
+        assertThat(stored).allSatisfy(notification -> assertThat(notification.getActorCount()).isEqualTo(1));
+    }
+
+    private NotificationEventConsumer createConsumer(NotificationApplicationService service) {
+        return new NotificationEventConsumer(service, new NotificationConsumerProperties(4, Duration.ofMillis(100), 1000),
+                executor, new RecentEventIdFilter(1000), retryTopicForwarder, partitionPauser);
+    }
+
+    private ConsumerRecord<String, String> withEventId(ConsumerRecord<String, String> consumerRecord) {
+        consumerRecord.headers().add(EventHeaders.EVENT_ID, EventHeaders.encode(UUID.randomUUID()));
+        return consumerRecord;
+    }
+
+    private ConsumerRecord<String, String> withDueAt(ConsumerRecord<String, String> consumerRecord, Instant dueAt) {
+        consumerRecord.headers().add(RetryTopicForwarder.DUE_AT, String.valueOf(dueAt.toEpochMilli()).getBytes(StandardCharsets.UTF_8));
+        return consumerRecord;
+    }
+
+    private PostLikeEvent eventInOtherGroupThan(UUID postId) {
+        while (true) {
+            PostLikeEvent candidate = PostLikeEvent.liked(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+            if (Math.floorMod(candidate.postId().toString().hashCode(), 4) != Math.floorMod(postId.toString().hashCode(), 4)) {
+                return candidate;
+            }
+        }
+    }
+
+    private ConsumerRecord<String, String> toRecord(long offset, PostLikeEvent event) {
+        return toRecord(0, offset, event);
+    }
+
+    private ConsumerRecord<String, String> toRecord(int partition, long offset, PostLikeEvent event) {
+        return new ConsumerRecord<>("post-like", partition, offset, event.postId().toString(), JsonUtil.toJsonStr(event));
+    }
+}
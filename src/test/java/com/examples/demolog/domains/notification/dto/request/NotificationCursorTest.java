@@ -0,0 +1,30 @@
+package com.examples.demolog.domains.notification.dto.request;
+
+import com.examples.demolog.domains.notification.exception.NotificationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NotificationCursor 테스트")
+class NotificationCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 (createdAt, id) 가 된다")
+    void roundTrip() {
+        NotificationCursor cursor = new NotificationCursor(LocalDateTime.of(2026, 1, 2, 3, 4, 5, 678_000_000), UUID.randomUUID());
+
+        assertThat(NotificationCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 NotificationException 을 던진다")
+    void invalidCursor() {
+        assertThatThrownBy(() -> NotificationCursor.decode("not-a-cursor"))
+                .isInstanceOf(NotificationException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.examples.demolog.domains.notification.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Notification 테스트")
+class NotificationTest {
+
+    @Test
+    @DisplayName("집계 알림에 행위자를 합치면 수가 늘고 최근 행위자는 최신순으로 최대 개수만 보관한다")
+    void mergeActor() {
+        // Given
+        UUID firstActor = UUID.randomUUID();
+        Notification notification = Notification.create(UUID.randomUUID(), firstActor, NotificationType.POST_LIKED_AGGREGATED, UUID.randomUUID());
+        UUID[] actors = IntStream.range(0, Notification.MAX_RECENT_ACTORS).mapToObj(i -> UUID.randomUUID()).toArray(UUID[]::new);
+
+        // When
+        for (UUID actor : actors) {
+            notification.mergeActor(actor);
+        }
+
+        // Then
+        assertThat(notification.getActorCount()).isEqualTo(Notification.MAX_RECENT_ACTORS + 1);
+        assertThat(notification.getRecentActorIds()).hasSize(Notification.MAX_RECENT_ACTORS)
+                .first().isEqualTo(actors[actors.length - 1]);
+        assertThat(notification.getRecentActorIds()).doesNotContain(firstActor);
+        assertThat(notification.getActorId()).isEqualTo(actors[actors.length - 1]);
+    }
+
+    @Test
+    @DisplayName("최근 행위자 목록에 있는 사용자가 다시 합쳐지면 수는 그대로이고 맨 앞으로 옮겨진다")
+    void mergeRecentActorAgain() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Notification notification = Notification.create(UUID.randomUUID(), first, NotificationType.POST_LIKED_AGGREGATED, UUID.randomUUID());
+        notification.mergeActor(second);
+
+        // When
+        notification.mergeActor(first);
+
+        // Then
+        assertThat(notification.getActorCount()).isEqualTo(2);
+        assertThat(notification.getRecentActorIds()).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("읽음 기준 시각 이전에 생성된 알림은 개별 읽음 여부와 무관하게 읽음이다")
+    void isReadAtWatermark() {
+        // Given
+        Notification notification = Notification.create(UUID.randomUUID(), UUID.randomUUID(), NotificationType.POST_LIKED, UUID.randomUUID());
+
+        // When & Then
+        assertThat(notification.isReadAt(null)).isFalse();
+        assertThat(notification.isReadAt(notification.getCreatedAt().minusSeconds(1))).isFalse();
+        assertThat(notification.isReadAt(notification.getCreatedAt())).isTrue();
+
+        notification.markAsRead();
+        assertThat(notification.isReadAt(null)).isTrue();
+    }
+}
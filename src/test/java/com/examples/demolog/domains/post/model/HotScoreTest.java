@@ -0,0 +1,36 @@
+package com.examples.demolog.domains.post.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HotScore 테스트")
+class HotScoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @Test
+    @DisplayName("같은 시각에 작성되면 좋아요가 많은 게시물의 점수가 높다")
+    void moreLikesScoreHigher() {
+        assertThat(HotScore.of(10, NOW)).isGreaterThan(HotScore.of(1, NOW));
+        assertThat(HotScore.of(1, NOW)).isGreaterThan(HotScore.of(0, NOW));
+    }
+
+    @Test
+    @DisplayName("DECAY_SECONDS 만큼 늦게 작성된 게시물은 좋아요가 10배 적어도 점수가 같다")
+    void tenTimesLikesPerDecayPeriod() {
+        LocalDateTime newer = NOW.plusSeconds(HotScore.DECAY_SECONDS);
+
+        assertThat(HotScore.of(9, newer)).isCloseTo(HotScore.of(99, NOW), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("오래된 게시물은 좋아요가 많아도 최근 게시물보다 낮아진다")
+    void oldPostsDecay() {
+        assertThat(HotScore.of(5, NOW)).isGreaterThan(HotScore.of(1000, NOW.minusDays(7)));
+    }
+}
@@ -101,7 +101,7 @@ class PostRepositoryTest {
         }
 
         @Test
-        @DisplayName("좋아요가 없는 게시물도 포함된다 (LEFT JOIN)")
+        @DisplayName("좋아요가 없는 게시물도 포함된다")
         void shouldIncludePostsWithoutLikes() {
             // Given: post1만 좋아요 추가
             addLikes(post1, 5);
@@ -191,6 +191,7 @@ class PostRepositoryTest {
             UUID likerUserId = UUID.randomUUID();
             PostLike like = PostLike.create(post.getId(), likerUserId);
             postLikeRepository.save(like);
+            postRepository.incrementLikeCount(post.getId(), LocalDateTime.now());
         }
     }
 }
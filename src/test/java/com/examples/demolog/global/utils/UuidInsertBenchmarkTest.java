@@ -0,0 +1,119 @@
+package com.examples.demolog.global.utils;
+
+import org.hibernate.id.uuid.CustomVersionOneStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * BINARY(16) 기본 키 INSERT 처리량 벤치마크 (./gradlew benchmark, 로컬 MySQL 필요 - compose.yaml)
+ * - 이전: @UuidGenerator(style = TIME) - UUID v1 (바이트 순서 ≠ 시간 순서, 무작위 위치 삽입)
+ * - 이후: UuidV7Generator - UUID v7 (바이트 순서 = 시간 순서, B-tree 오른쪽 끝에 추가)
+ */
+@Tag("benchmark")
+@DisplayName("UUID 생성기별 INSERT 처리량 벤치마크")
+class UuidInsertBenchmarkTest {
+
+    private static final String DB_URL = System.getenv().getOrDefault("DB_URL",
+            "jdbc:mysql://localhost:3307/local_db?useSSL=false&serverTimezone=Asia/Seoul&allowPublicKeyRetrieval=true")
+            + "&rewriteBatchedStatements=true";
+    private static final String DB_USERNAME = System.getenv().getOrDefault("DB_USERNAME", "app_user");
+    private static final String DB_PASSWORD = System.getenv().getOrDefault("DB_PASSWORD", "app_user_password");
+
+    private static final int ROW_COUNT = 200_000;
+    private static final int BATCH_SIZE = 100;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
+        } catch (SQLException e) {
+            assumeTrue(false, "MySQL 에 연결할 수 없어 벤치마크를 건너뜁니다: " + e.getMessage());
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (connection != null) {
+            execute("DROP TABLE IF EXISTS uuid_insert_benchmark");
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("UUID v1(TIME) 과 UUID v7 의 초당 INSERT 수를 비교한다")
+    void compareInsertThroughput() throws SQLException {
+        CustomVersionOneStrategy versionOne = new CustomVersionOneStrategy();
+
+        // 워밍업
+        measure(() -> versionOne.generateUuid(null), ROW_COUNT / 10);
+        measure(UuidV7Generator::generate, ROW_COUNT / 10);
+
+        double v1 = measure(() -> versionOne.generateUuid(null), ROW_COUNT);
+        double v7 = measure(UuidV7Generator::generate, ROW_COUNT);
+
+        System.out.printf("[UUID INSERT] rows=%d, batch=%d%n", ROW_COUNT, BATCH_SIZE);
+        System.out.printf("[UUID INSERT] v1(TIME): %.0f rows/s%n", v1);
+        System.out.printf("[UUID INSERT] v7      : %.0f rows/s (x%.2f)%n", v7, v7 / v1);
+    }
+
+    // 빈 테이블에 rowCount 건을 JDBC 배치로 INSERT 하고 초당 행 수 반환
+    private double measure(Supplier<UUID> generator, int rowCount) throws SQLException {
+        execute("DROP TABLE IF EXISTS uuid_insert_benchmark");
+        execute("""
+                CREATE TABLE uuid_insert_benchmark (
+                    id BINARY(16) NOT NULL PRIMARY KEY,
+                    payload VARCHAR(255) NOT NULL
+                ) ENGINE = InnoDB
+                """);
+
+        connection.setAutoCommit(false);
+        long startedAt = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO uuid_insert_benchmark (id, payload) VALUES (?, ?)")) {
+            for (int i = 1; i <= rowCount; i++) {
+                statement.setBytes(1, toBytes(generator.get()));
+                statement.setString(2, "{\"postId\":\"" + i + "\",\"eventType\":\"POST_LIKED\"}");
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return rowCount / ((System.nanoTime() - startedAt) / 1_000_000_000.0);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // Hibernate 의 UUID → BINARY(16) 매핑과 같은 바이트 순서 (msb, lsb 빅엔디언)
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,60 @@
+package com.examples.demolog.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidV7Generator 테스트")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("버전 7, RFC 9562 variant 로 생성된다")
+    void versionAndVariant() {
+        UUID uuid = UuidV7Generator.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("생성 시각을 밀리초 단위로 꺼낼 수 있고, 다른 버전이면 빈 값이다")
+    void timestampOf() {
+        Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+        UUID uuid = UuidV7Generator.generate();
+
+        assertThat(UuidV7Generator.timestampOf(uuid)).hasValueSatisfying(timestamp ->
+                assertThat(timestamp).isBetween(before, Instant.now().plusMillis(1)));
+        assertThat(UuidV7Generator.timestampOf(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("BINARY(16) 바이트 순서 기준으로 생성 순서대로 단조 증가한다")
+    void monotonicInByteOrder() {
+        // 고정 길이 소문자 16진 문자열의 사전순 비교 = 부호 없는 바이트 비교
+        List<String> generated = IntStream.range(0, 100_000)
+                .mapToObj(i -> UuidV7Generator.generate().toString())
+                .toList();
+
+        for (int i = 1; i < generated.size(); i++) {
+            assertThat(generated.get(i)).isGreaterThan(generated.get(i - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복되지 않는다")
+    void uniqueAcrossThreads() {
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 200_000).parallel().forEach(i -> generated.add(UuidV7Generator.generate()));
+
+        assertThat(generated).hasSize(200_000);
+    }
+}